@@ -0,0 +1,255 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class LoadDriver {
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String[] UPDATE_STATUSES = {"filed", "in-progress", "resolved"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Settings settings = new Settings(
+                options.getOrDefault("base-url", "http://localhost:8080"),
+                options.getOrDefault("username", "admin"),
+                options.getOrDefault("password", "password"),
+                Long.parseLong(options.getOrDefault("assignee-id", "1")),
+                ticketIdRange(options.getOrDefault("ticket-ids", "1-1000")));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        String token = login(client, settings);
+        Operations operations = new Operations(client, settings, token);
+        System.out.printf("target=%s concurrency=%d warmup=%ss duration=%ss%n",
+                settings.baseUrl(), concurrency, warmup.toSeconds(), duration.toSeconds());
+
+        List<Workload> workloads = new ArrayList<>();
+        if (options.containsKey("mix")) {
+            workloads.add(Workload.parse("mix", options.get("mix")));
+        }
+        if (options.containsKey("scenarios") || workloads.isEmpty()) {
+            for (String scenario : options.getOrDefault("scenarios", "list-tickets,create-ticket").split(",")) {
+                workloads.add(Workload.parse(scenario.trim(), scenario.trim() + ":1"));
+            }
+        }
+        for (Workload workload : workloads) {
+            run(workload, operations, concurrency, warmup);
+            Map<String, Samples> samples = run(workload, operations, concurrency, duration);
+            report(workload.name(), samples, duration);
+        }
+    }
+
+    private static Map<String, Samples> run(Workload workload, Operations operations, int concurrency,
+                                            Duration duration) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<String, Samples>>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> {
+                Map<String, Samples> samples = new HashMap<>();
+                while (System.nanoTime() < deadline) {
+                    String operation = workload.next();
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                        status = operations.execute(operation);
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    samples.computeIfAbsent(operation, key -> new Samples()).add(System.nanoTime() - start, status);
+                }
+                return samples;
+            }));
+        }
+        Map<String, Samples> total = new LinkedHashMap<>();
+        for (Future<Map<String, Samples>> future : futures) {
+            future.get().forEach((operation, samples) ->
+                    total.computeIfAbsent(operation, key -> new Samples()).merge(samples));
+        }
+        workers.shutdown();
+        return total;
+    }
+
+    private static void report(String name, Map<String, Samples> samples, Duration duration) {
+        Samples overall = new Samples();
+        samples.values().forEach(overall::merge);
+        if (samples.size() > 1) {
+            samples.forEach((operation, operationSamples) -> print("  " + operation, operationSamples, duration));
+        }
+        print(name, overall, duration);
+    }
+
+    private static void print(String name, Samples samples, Duration duration) {
+        long[] sorted = Arrays.copyOf(samples.latencies, samples.count);
+        Arrays.sort(sorted);
+        double throughput = samples.count / (double) duration.toSeconds();
+        System.out.printf("%-16s requests=%d errors=%d throughput=%.1f/s p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms%n",
+                name, samples.count, samples.errors, throughput,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static String login(HttpClient client, Settings settings) throws Exception {
+        HttpResponse<String> response = client.send(loginRequest(settings), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        return matcher.group(1);
+    }
+
+    private static HttpRequest loginRequest(Settings settings) {
+        return HttpRequest.newBuilder(URI.create(settings.baseUrl() + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        String.format("{\"username\":\"%s\",\"password\":\"%s\"}", settings.username(), settings.password())))
+                .build();
+    }
+
+    private static long[] ticketIdRange(String range) {
+        String[] bounds = range.split("-");
+        return new long[]{Long.parseLong(bounds[0]), Long.parseLong(bounds[1])};
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+
+    private record Settings(String baseUrl, String username, String password, long assigneeId, long[] ticketIds) {
+    }
+
+    private static final class Operations {
+        private final HttpClient client;
+        private final Settings settings;
+        private final String token;
+
+        private Operations(HttpClient client, Settings settings, String token) {
+            this.client = client;
+            this.settings = settings;
+            this.token = token;
+        }
+
+        private int execute(String operation) throws Exception {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            HttpRequest request = switch (operation) {
+                case "login" -> loginRequest(settings);
+                case "list-tickets" -> authorized("/api/tickets?page=" + random.nextInt(10) + "&size=20").GET().build();
+                case "get-ticket" -> authorized("/api/tickets/" + ticketId(random)).GET().build();
+                case "create-ticket" -> json(authorized("/api/tickets"), String.format(
+                        "{\"title\":\"Load test %d\",\"name\":\"loadtest\",\"body\":\"Generated by LoadDriver\",\"assigneeId\":%d,\"filed\":true}",
+                        random.nextInt(1_000_000), settings.assigneeId()))
+                        .build();
+                case "update-ticket" -> authorized("/api/tickets/" + ticketId(random))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(String.format("{\"status\":\"%s\",\"updatedBy\":\"loadtest\"}",
+                                UPDATE_STATUSES[random.nextInt(UPDATE_STATUSES.length)])))
+                        .build();
+                case "add-remark" -> authorized("/api/tickets/" + ticketId(random) + "/remarks")
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                                "{\"remark\":\"Load test remark\",\"addedBy\":\"loadtest\"}"))
+                        .build();
+                default -> throw new IllegalArgumentException("Unknown operation: " + operation);
+            };
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(URI.create(settings.baseUrl() + path))
+                    .header("Authorization", "Bearer " + token);
+        }
+
+        private static HttpRequest.Builder json(HttpRequest.Builder builder, String body) {
+            return builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+
+        private long ticketId(ThreadLocalRandom random) {
+            return random.nextLong(settings.ticketIds()[0], settings.ticketIds()[1] + 1);
+        }
+    }
+
+    private record Workload(String name, String[] operations, int[] cumulativeWeights) {
+        private static Workload parse(String name, String spec) {
+            String[] entries = spec.split(",");
+            String[] operations = new String[entries.length];
+            int[] cumulative = new int[entries.length];
+            int total = 0;
+            for (int i = 0; i < entries.length; i++) {
+                String[] parts = entries[i].trim().split(":");
+                operations[i] = parts[0];
+                total += parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+                cumulative[i] = total;
+            }
+            return new Workload(name, operations, cumulative);
+        }
+
+        private String next() {
+            int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        private void add(long latencyNanos, int status) {
+            ensureCapacity(count + 1);
+            latencies[count++] = latencyNanos;
+            if (status < 200 || status >= 300) {
+                errors++;
+            }
+        }
+
+        private void merge(Samples other) {
+            ensureCapacity(count + other.count);
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(required, latencies.length * 2));
+            }
+        }
+    }
+}
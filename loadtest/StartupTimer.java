@@ -0,0 +1,100 @@
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class StartupTimer {
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 0 || separator == args.length - 1) {
+            throw new IllegalArgumentException(
+                    "Usage: java loadtest/StartupTimer.java [--name=value ...] -- <command to start the application>");
+        }
+        Map<String, String> options = parse(Arrays.copyOfRange(args, 0, separator));
+        List<String> command = List.of(Arrays.copyOfRange(args, separator + 1, args.length));
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        String username = options.getOrDefault("username", "admin");
+        String password = options.getOrDefault("password", "password");
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "120")));
+        File log = new File(options.getOrDefault("log", "target/startup-timer.log"));
+        if (log.getParentFile() != null) {
+            log.getParentFile().mkdirs();
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(Duration.ofSeconds(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, password)))
+                .build();
+
+        System.out.printf("command=%s runs=%d%n", String.join(" ", command), runs);
+        long[] timings = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            timings[run] = measure(command, client, login, timeout, log);
+            System.out.printf("run %d: first login after %d ms%n", run + 1, timings[run]);
+        }
+        Arrays.sort(timings);
+        System.out.printf("startup min=%dms median=%dms max=%dms%n",
+                timings[0], timings[runs / 2], timings[runs - 1]);
+    }
+
+    private static long measure(List<String> command, HttpClient client, HttpRequest login, Duration timeout,
+                                File log) throws Exception {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(log))
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (client.send(login, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (java.io.IOException ignored) {
+                }
+                Thread.sleep(25);
+            }
+            throw new IllegalStateException("No successful login within " + timeout.toSeconds() + "s, see " + log);
+        } finally {
+            stop(process);
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        List<ProcessHandle> children = new ArrayList<>(process.descendants().toList());
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        children.forEach(ProcessHandle::destroyForcibly);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,71 @@
+package com.exist.helpdesk.benchmark;
+
+import com.exist.helpdesk.model.Employee;
+import com.exist.helpdesk.model.HelpdeskTicket;
+import com.exist.helpdesk.model.Remark;
+import com.exist.helpdesk.model.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkFixtures {
+    static final String SECRET = "oKj8UsXnFpTeYc6zQpR4DmZtFcJ7WvLbAaSdFgHiJkLmNoPx";
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 9, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static Role role(long id) {
+        return Role.builder().id(id).name("AGENT").version(0).build();
+    }
+
+    static Employee employee(long id) {
+        return Employee.builder()
+                .id(id)
+                .name("Employee " + id)
+                .age(30)
+                .address("Pasig City")
+                .phone("+639171234567")
+                .employmentStatus("active")
+                .username("employee" + id)
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z4Z2p2Q8vN6e9FqG7w6Xw1Kq")
+                .role(role(id % 3 + 1))
+                .version(0)
+                .build();
+    }
+
+    static HelpdeskTicket ticket(long id, int remarks) {
+        List<Remark> remarkList = new ArrayList<>(remarks);
+        for (int i = 0; i < remarks; i++) {
+            remarkList.add(new Remark("Follow-up " + i + " on the reported issue, waiting for user confirmation.",
+                    "agent" + (i % 4), NOW.plusMinutes(i)));
+        }
+        return HelpdeskTicket.builder()
+                .id(id)
+                .ticketNumber("EXIST-" + Long.toHexString(0x10000000L + id).toUpperCase())
+                .title("VPN disconnects every few minutes")
+                .body("User reports that the VPN client drops the connection roughly every five minutes "
+                        + "while on the office Wi-Fi. Logs attached in the previous remark.")
+                .status("filed")
+                .assignee(employee(id % 50 + 1))
+                .createdDate(NOW)
+                .createdBy("Alice Smith")
+                .updatedDate(NOW.plusHours(1))
+                .updatedBy("Alice Smith")
+                .remarks(remarkList)
+                .version(1)
+                .build();
+    }
+}
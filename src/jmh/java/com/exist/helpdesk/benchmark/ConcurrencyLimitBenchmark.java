@@ -0,0 +1,71 @@
+package com.exist.helpdesk.benchmark;
+
+import com.exist.helpdesk.limit.AimdLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class ConcurrencyLimitBenchmark {
+    @Param({"8"})
+    public int capacity;
+
+    @Param({"2000"})
+    public int serviceMicros;
+
+    private Semaphore backend;
+    private AimdLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        backend = new Semaphore(capacity, true);
+        limiter = new AimdLimiter(capacity * 4, 1, capacity * 8,
+                Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(serviceMicros) * 2), 0.9);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long served;
+        public long shed;
+    }
+
+    @Benchmark
+    public void unlimited(Outcomes outcomes) throws InterruptedException {
+        serve();
+        outcomes.served++;
+    }
+
+    @Benchmark
+    public void limited(Outcomes outcomes) throws InterruptedException {
+        if (!limiter.tryAcquire()) {
+            outcomes.shed++;
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            serve();
+            outcomes.served++;
+        } finally {
+            limiter.release(start, false);
+        }
+    }
+
+    private void serve() throws InterruptedException {
+        backend.acquire();
+        try {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(serviceMicros));
+        } finally {
+            backend.release();
+        }
+    }
+}
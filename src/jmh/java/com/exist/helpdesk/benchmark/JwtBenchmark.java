@@ -0,0 +1,76 @@
+package com.exist.helpdesk.benchmark;
+
+import com.exist.helpdesk.config.SecurityConfig;
+import com.exist.helpdesk.utils.JwtUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+    private static final String USERNAME = "admin";
+    private static final List<String> AUTHORITIES = List.of("ROLE_ADMIN");
+
+    private JwtUtils jwtUtils;
+    private JwtDecoder jwtDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(BenchmarkFixtures.SECRET);
+        jwtDecoder = new SecurityConfig(new ObjectMapper()).jwtDecoder(BenchmarkFixtures.SECRET);
+        token = jwtUtils.generateToken(USERNAME, AUTHORITIES);
+        Jwt handRolled = verify("generateToken", jwtDecoder.decode(token));
+        Jwt built = verify("generateTokenWithBuilder",
+                jwtDecoder.decode(jwtUtils.generateTokenWithBuilder(USERNAME, AUTHORITIES)));
+        check(handRolled.getHeaders().equals(built.getHeaders()),
+                "headers differ: " + handRolled.getHeaders() + " vs " + built.getHeaders());
+        check(handRolled.getClaims().keySet().equals(built.getClaims().keySet()),
+                "claim names differ: " + handRolled.getClaims().keySet() + " vs " + built.getClaims().keySet());
+        check(lifetime(handRolled).minus(lifetime(built)).abs().compareTo(Duration.ofSeconds(1)) <= 0,
+                "lifetimes differ: " + lifetime(handRolled) + " vs " + lifetime(built));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(USERNAME, AUTHORITIES);
+    }
+
+    @Benchmark
+    public String generateTokenWithBuilder() {
+        return jwtUtils.generateTokenWithBuilder(USERNAME, AUTHORITIES);
+    }
+
+    @Benchmark
+    public Jwt decodeToken() {
+        return jwtDecoder.decode(token);
+    }
+
+    private static Jwt verify(String path, Jwt jwt) {
+        check(USERNAME.equals(jwt.getSubject()), path + " minted subject " + jwt.getSubject());
+        check(AUTHORITIES.equals(jwt.getClaimAsStringList("authorities")),
+                path + " minted authorities " + jwt.getClaimAsStringList("authorities"));
+        check(jwt.getId() != null, path + " minted no jti");
+        return jwt;
+    }
+
+    private static Duration lifetime(Jwt jwt) {
+        return Duration.between(jwt.getIssuedAt(), jwt.getExpiresAt());
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException("Token mismatch: " + message);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.exist.helpdesk.benchmark;
+
+import com.exist.helpdesk.dto.employee.EmployeeResponseDTO;
+import com.exist.helpdesk.dto.helpdeskticket.HelpdeskTicketCreateRequestDTO;
+import com.exist.helpdesk.dto.helpdeskticket.HelpdeskTicketResponseDTO;
+import com.exist.helpdesk.dto.helpdeskticket.HelpdeskTicketUpdateRequestDTO;
+import com.exist.helpdesk.mapper.EmployeeMapper;
+import com.exist.helpdesk.mapper.EmployeeMapperImpl;
+import com.exist.helpdesk.mapper.HelpdeskTicketMapper;
+import com.exist.helpdesk.mapper.HelpdeskTicketMapperImpl;
+import com.exist.helpdesk.model.Employee;
+import com.exist.helpdesk.model.HelpdeskTicket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"0", "5", "50"})
+    public int remarks;
+
+    private final HelpdeskTicketMapper ticketMapper = new HelpdeskTicketMapperImpl();
+    private final EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+    private HelpdeskTicket ticket;
+    private Employee employee;
+    private HelpdeskTicketCreateRequestDTO createRequest;
+    private HelpdeskTicketUpdateRequestDTO updateRequest;
+
+    @Setup
+    public void setUp() {
+        ticket = BenchmarkFixtures.ticket(42, remarks);
+        employee = BenchmarkFixtures.employee(7);
+        createRequest = new HelpdeskTicketCreateRequestDTO("Printer jam", "Bob Johnson",
+                "The third floor printer is jammed again.", 7L, true, null);
+        updateRequest = new HelpdeskTicketUpdateRequestDTO("Printer jam (urgent)", null, "in-progress", null, "Bob Johnson");
+    }
+
+    @Benchmark
+    public HelpdeskTicketResponseDTO ticketToResponse() {
+        return ticketMapper.toResponse(ticket);
+    }
+
+    @Benchmark
+    public HelpdeskTicket ticketFromCreateRequest() {
+        return ticketMapper.toEntity(createRequest);
+    }
+
+    @Benchmark
+    public HelpdeskTicket ticketMergeUpdateRequest() {
+        HelpdeskTicket target = HelpdeskTicket.builder().title(ticket.getTitle()).status(ticket.getStatus()).build();
+        ticketMapper.updateEntityFromDto(updateRequest, target);
+        return target;
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO employeeToResponse() {
+        return employeeMapper.toResponse(employee);
+    }
+}
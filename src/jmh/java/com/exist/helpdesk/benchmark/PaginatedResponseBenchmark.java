@@ -0,0 +1,61 @@
+package com.exist.helpdesk.benchmark;
+
+import com.exist.helpdesk.dto.PaginatedResponse;
+import com.exist.helpdesk.dto.helpdeskticket.HelpdeskTicketResponseDTO;
+import com.exist.helpdesk.mapper.HelpdeskTicketMapper;
+import com.exist.helpdesk.mapper.HelpdeskTicketMapperImpl;
+import com.exist.helpdesk.utils.PaginatedResponseUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginatedResponseBenchmark {
+    @Param({"4", "20", "100"})
+    public int pageSize;
+
+    @Param({"5"})
+    public int remarksPerTicket;
+
+    private Page<HelpdeskTicketResponseDTO> page;
+    private PaginatedResponse<HelpdeskTicketResponseDTO> response;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        HelpdeskTicketMapper mapper = new HelpdeskTicketMapperImpl();
+        List<HelpdeskTicketResponseDTO> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(mapper.toResponse(BenchmarkFixtures.ticket(i, remarksPerTicket)));
+        }
+        page = new PageImpl<>(content, PageRequest.of(3, pageSize), 10_000);
+        response = PaginatedResponseUtil.fromPage(page);
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        writer = objectMapper.writerFor(new TypeReference<PaginatedResponse<HelpdeskTicketResponseDTO>>() {
+        });
+    }
+
+    @Benchmark
+    public PaginatedResponse<HelpdeskTicketResponseDTO> fromPage() {
+        return PaginatedResponseUtil.fromPage(page);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
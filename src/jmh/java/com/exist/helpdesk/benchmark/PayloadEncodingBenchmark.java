@@ -0,0 +1,88 @@
+package com.exist.helpdesk.benchmark;
+
+import com.exist.helpdesk.dto.PaginatedResponse;
+import com.exist.helpdesk.dto.helpdeskticket.HelpdeskTicketResponseDTO;
+import com.exist.helpdesk.mapper.HelpdeskTicketMapper;
+import com.exist.helpdesk.mapper.HelpdeskTicketMapperImpl;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadEncodingBenchmark {
+    private static final TypeReference<PaginatedResponse<HelpdeskTicketResponseDTO>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"10"})
+    public int remarksPerTicket;
+
+    private PaginatedResponse<HelpdeskTicketResponseDTO> response;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        HelpdeskTicketMapper mapper = new HelpdeskTicketMapperImpl();
+        List<HelpdeskTicketResponseDTO> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(mapper.toResponse(BenchmarkFixtures.ticket(i, remarksPerTicket)));
+        }
+        response = new PaginatedResponse<>(content, 0, pageSize, 10_000, 10_000 / pageSize, false);
+        ObjectMapper objectMapper = new ObjectMapper(factory(format))
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = objectMapper.writerFor(PAGE_TYPE);
+        reader = objectMapper.readerFor(PAGE_TYPE);
+        encoded = writer.writeValueAsBytes(response);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws IOException {
+        byte[] bytes = writer.writeValueAsBytes(response);
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public PaginatedResponse<HelpdeskTicketResponseDTO> deserialize() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.exist.helpdesk.benchmark;
+
+import com.exist.helpdesk.dto.helpdeskticket.HelpdeskTicketResponseDTO;
+import com.exist.helpdesk.mapper.HelpdeskTicketMapper;
+import com.exist.helpdesk.mapper.HelpdeskTicketMapperImpl;
+import com.exist.helpdesk.model.HelpdeskTicket;
+import com.exist.helpdesk.utils.SingleFlight;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(32)
+@Fork(1)
+public class SingleFlightBenchmark {
+    @Param({"1", "16", "1024"})
+    public int hotKeys;
+
+    @Param({"500"})
+    public int queryMicros;
+
+    private final HelpdeskTicketMapper mapper = new HelpdeskTicketMapperImpl();
+    private SingleFlight<Long, HelpdeskTicketResponseDTO> singleFlight;
+    private HelpdeskTicket ticket;
+
+    @Setup
+    public void setUp() {
+        singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        ticket = BenchmarkFixtures.ticket(42, 5);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Queries {
+        public long queries;
+    }
+
+    @Benchmark
+    public HelpdeskTicketResponseDTO direct(Queries queries) {
+        return load(queries);
+    }
+
+    @Benchmark
+    public HelpdeskTicketResponseDTO coalesced(Queries queries) {
+        long key = ThreadLocalRandom.current().nextInt(hotKeys);
+        return singleFlight.execute(key, () -> load(queries));
+    }
+
+    private HelpdeskTicketResponseDTO load(Queries queries) {
+        queries.queries++;
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(queryMicros));
+        return mapper.toResponse(ticket);
+    }
+}
@@ -0,0 +1,80 @@
+package com.exist.helpdesk.benchmark;
+
+import com.exist.helpdesk.model.Employee;
+import com.exist.helpdesk.model.HelpdeskTicket;
+import com.exist.helpdesk.model.Role;
+import com.exist.helpdesk.repository.specification.EmployeeSpecifications;
+import com.exist.helpdesk.repository.specification.HelpdeskTicketSpecifications;
+import com.exist.helpdesk.repository.specification.RoleSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource("jdbc:h2:mem:specifications;DB_CLOSE_DELAY=-1", "sa", ""));
+        factoryBean.setPackagesToScan("com.exist.helpdesk.model");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        criteriaBuilder = entityManager.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public TypedQuery<HelpdeskTicket> ticketsUnfiltered() {
+        return query(HelpdeskTicket.class, HelpdeskTicketSpecifications.filter(null, null, null));
+    }
+
+    @Benchmark
+    public TypedQuery<HelpdeskTicket> ticketsAllFilters() {
+        return query(HelpdeskTicket.class, HelpdeskTicketSpecifications.filter("filed", 7L, 3L));
+    }
+
+    @Benchmark
+    public TypedQuery<Employee> employeesAllFilters() {
+        return query(Employee.class, EmployeeSpecifications.filter("smith", 30, "pasig", "+63917", "Active", 2L));
+    }
+
+    @Benchmark
+    public TypedQuery<Role> rolesByName() {
+        return query(Role.class, RoleSpecifications.filter("agent"));
+    }
+
+    private <T> TypedQuery<T> query(Class<T> type, Specification<T> specification) {
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(type);
+        Root<T> root = query.from(type);
+        query.where(specification.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query);
+    }
+}
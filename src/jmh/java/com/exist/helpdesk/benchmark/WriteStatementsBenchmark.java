@@ -0,0 +1,110 @@
+package com.exist.helpdesk.benchmark;
+
+import com.exist.helpdesk.HelpdeskApplication;
+import com.exist.helpdesk.dto.employee.EmployeeResponseDTO;
+import com.exist.helpdesk.dto.employee.EmployeeUpdateRequestDTO;
+import com.exist.helpdesk.dto.helpdeskticket.HelpdeskTicketCreateRequestDTO;
+import com.exist.helpdesk.dto.helpdeskticket.HelpdeskTicketResponseDTO;
+import com.exist.helpdesk.metrics.RequestStatistics;
+import com.exist.helpdesk.service.EmployeeService;
+import com.exist.helpdesk.service.HelpdeskTicketService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteStatementsBenchmark {
+    @Param({"true", "false"})
+    public boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private HelpdeskTicketService ticketService;
+    private EmployeeService employeeService;
+    private long assigneeId;
+    private long employeeId;
+    private long updates;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(HelpdeskApplication.class)
+                .profiles("seed")
+                .properties(
+                        "server.port=0",
+                        "logging.level.root=WARN",
+                        "helpdesk.seed.employees=100",
+                        "helpdesk.seed.tickets=1000",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache)
+                .run();
+        ticketService = context.getBean(HelpdeskTicketService.class);
+        employeeService = context.getBean(EmployeeService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        assigneeId = seededEmployee(jdbcTemplate, "MIN");
+        employeeId = seededEmployee(jdbcTemplate, "MAX");
+    }
+
+    private static long seededEmployee(JdbcTemplate jdbcTemplate, String aggregate) {
+        Long id = jdbcTemplate.queryForObject("SELECT " + aggregate
+                + "(id) FROM employees WHERE deleted = false AND username <> 'admin'", Long.class);
+        if (id == null) {
+            throw new IllegalStateException("No seeded employees found; is the seed profile active?");
+        }
+        return id;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+        private long statements;
+        private long requests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            requests = 0;
+        }
+
+        public double statementsPerRequest() {
+            return requests == 0 ? 0 : (double) statements / requests;
+        }
+
+        private <T> T record(Supplier<T> request) {
+            RequestStatistics statistics = RequestStatistics.begin();
+            try {
+                return request.get();
+            } finally {
+                RequestStatistics.end();
+                statements += statistics.getStatements();
+                requests++;
+            }
+        }
+    }
+
+    @Benchmark
+    public HelpdeskTicketResponseDTO createTicket(Statements statements) {
+        return statements.record(() -> ticketService.createTicket(new HelpdeskTicketCreateRequestDTO(
+                "VPN disconnects every few minutes", "benchmark", "Generated by WriteStatementsBenchmark",
+                assigneeId, true, null)));
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO updateEmployee(Statements statements) {
+        String name = "Employee " + (updates++ % 2);
+        return statements.record(() -> employeeService.updateEmployee(employeeId, new EmployeeUpdateRequestDTO(
+                name, null, null, null, null, null, null, null)));
+    }
+}
@@ -0,0 +1,199 @@
+package com.exist.helpdesk.assignment;
+
+import com.exist.helpdesk.event.EmployeeChangedEvent;
+import com.exist.helpdesk.event.TicketChangedEvent;
+import com.exist.helpdesk.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+@Component
+public class AssignmentBalancer {
+    private static final Logger log = LoggerFactory.getLogger(AssignmentBalancer.class);
+    private static final Comparator<Load> LEAST_LOADED = Comparator.comparingInt(Load::openTickets)
+            .thenComparingLong(Load::employeeId);
+    private static final int MAX_PICK_ATTEMPTS = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<String> closedStatuses;
+    private final Set<String> eligibleEmploymentStatuses;
+    private final Set<Long> eligibleRoleIds;
+    private final Map<Long, Load> loads = new ConcurrentHashMap<>();
+    private final NavigableSet<Load> eligible = new ConcurrentSkipListSet<>(LEAST_LOADED);
+    private final Map<Long, NavigableSet<Load>> eligibleByRole = new ConcurrentHashMap<>();
+
+    public AssignmentBalancer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                              @Value("${helpdesk.assignment.closed-statuses:resolved,closed}") Set<String> closedStatuses,
+                              @Value("${helpdesk.assignment.employment-statuses:active}") Set<String> employmentStatuses,
+                              @Value("${helpdesk.assignment.role-ids:}") Set<Long> eligibleRoleIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.closedStatuses = Set.copyOf(closedStatuses);
+        this.eligibleEmploymentStatuses = employmentStatuses.stream()
+                .map(status -> status.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.eligibleRoleIds = Set.copyOf(eligibleRoleIds);
+        Gauge.builder("helpdesk.assignment.eligible", eligible, Set::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<String> closed = List.copyOf(closedStatuses);
+        String openCondition = closed.isEmpty() ? "t.status IS NOT NULL"
+                : "t.status NOT IN (" + String.join(", ", Collections.nCopies(closed.size(), "?")) + ")";
+        long start = System.nanoTime();
+        jdbcTemplate.query("SELECT e.id, e.role_id, e.employment_status, COUNT(t.id) AS open_tickets "
+                + "FROM employees e LEFT JOIN tickets t ON t.assignee_id = e.id AND t.deleted = false AND " + openCondition
+                + " WHERE e.deleted = false GROUP BY e.id, e.role_id, e.employment_status", rs -> {
+            long employeeId = rs.getLong("id");
+            long roleId = rs.getLong("role_id");
+            Long role = rs.wasNull() ? null : roleId;
+            Load load = new Load(employeeId, role, isEligible(role, rs.getString("employment_status")),
+                    rs.getInt("open_tickets"));
+            update(employeeId, current -> load);
+        }, closed.toArray());
+        log.info("Rebuilt assignment load for {} employees ({} eligible) in {} ms",
+                loads.size(), eligible.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public Long reserve(Long roleId) {
+        NavigableSet<Load> candidates = roleId == null ? eligible : eligibleByRole.get(roleId);
+        for (int attempt = 0; attempt < MAX_PICK_ATTEMPTS; attempt++) {
+            Load candidate = candidates == null ? null : first(candidates);
+            if (candidate == null) {
+                throw new ResourceNotFoundException(roleId == null
+                        ? "No eligible employee available for assignment"
+                        : "No eligible employee with role id " + roleId + " available for assignment");
+            }
+            boolean[] reserved = {false};
+            update(candidate.employeeId(), current -> {
+                if (!candidate.equals(current)) {
+                    return current;
+                }
+                reserved[0] = true;
+                return current.adjust(1);
+            });
+            if (reserved[0]) {
+                releaseOnCompletion(candidate.employeeId());
+                return candidate.employeeId();
+            }
+        }
+        Load fallback = first(candidates);
+        if (fallback == null) {
+            throw new ResourceNotFoundException("No eligible employee available for assignment");
+        }
+        adjust(fallback.employeeId(), 1);
+        releaseOnCompletion(fallback.employeeId());
+        return fallback.employeeId();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (event.type() == TicketChangedEvent.Type.REMARK_ADDED) {
+            return;
+        }
+        boolean wasOpen = event.type() != TicketChangedEvent.Type.CREATED && isOpen(event.previousStatus());
+        boolean isOpen = event.type() != TicketChangedEvent.Type.DELETED && isOpen(event.status());
+        if (wasOpen && event.previousAssigneeId() != null) {
+            adjust(event.previousAssigneeId(), -1);
+        }
+        if (isOpen && event.assigneeId() != null) {
+            adjust(event.assigneeId(), 1);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.Type.DELETED) {
+            update(event.employeeId(), current -> null);
+            return;
+        }
+        boolean eligibleNow = isEligible(event.roleId(), event.employmentStatus());
+        update(event.employeeId(), current -> new Load(event.employeeId(), event.roleId(), eligibleNow,
+                current != null ? current.openTickets() : 0));
+    }
+
+    private void releaseOnCompletion(Long employeeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjust(employeeId, -1);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                adjust(employeeId, -1);
+            }
+        });
+    }
+
+    private void adjust(Long employeeId, int delta) {
+        update(employeeId, current -> current != null ? current.adjust(delta) : null);
+    }
+
+    private void update(Long employeeId, UnaryOperator<Load> change) {
+        loads.compute(employeeId, (id, current) -> {
+            Load next = change.apply(current);
+            if (next == current) {
+                return current;
+            }
+            if (current != null && current.eligible()) {
+                eligible.remove(current);
+                NavigableSet<Load> byRole = eligibleByRole.get(current.roleId());
+                if (byRole != null) {
+                    byRole.remove(current);
+                }
+            }
+            if (next != null && next.eligible()) {
+                eligible.add(next);
+                if (next.roleId() != null) {
+                    eligibleByRole.computeIfAbsent(next.roleId(), role -> new ConcurrentSkipListSet<>(LEAST_LOADED))
+                            .add(next);
+                }
+            }
+            return next;
+        });
+    }
+
+    private boolean isOpen(String status) {
+        return status != null && !closedStatuses.contains(status);
+    }
+
+    private boolean isEligible(Long roleId, String employmentStatus) {
+        return employmentStatus != null
+                && eligibleEmploymentStatuses.contains(employmentStatus.toLowerCase(Locale.ROOT))
+                && (eligibleRoleIds.isEmpty() || roleId != null && eligibleRoleIds.contains(roleId));
+    }
+
+    private static Load first(NavigableSet<Load> candidates) {
+        Iterator<Load> iterator = candidates.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private record Load(long employeeId, Long roleId, boolean eligible, int openTickets) {
+        private Load adjust(int delta) {
+            return new Load(employeeId, roleId, eligible, Math.max(0, openTickets + delta));
+        }
+    }
+}
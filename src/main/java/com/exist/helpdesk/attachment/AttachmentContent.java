@@ -0,0 +1,12 @@
+package com.exist.helpdesk.attachment;
+
+import java.nio.file.Path;
+
+public record AttachmentContent(
+        String fileName,
+        String contentType,
+        long size,
+        String sha256,
+        Path path
+) {
+}
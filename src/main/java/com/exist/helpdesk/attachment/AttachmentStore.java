@@ -0,0 +1,181 @@
+package com.exist.helpdesk.attachment;
+
+import com.exist.helpdesk.exception.AttachmentQuotaExceededException;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Component
+public class AttachmentStore {
+    private static final Logger log = LoggerFactory.getLogger(AttachmentStore.class);
+    private static final Pattern DIGEST = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path directory;
+    private final Path staging;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public AttachmentStore(@Value("${helpdesk.attachments.directory:data/attachments}") Path directory) {
+        this.directory = directory;
+        this.staging = directory.resolve("staging");
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(staging);
+        try (Stream<Path> leftovers = Files.list(staging)) {
+            leftovers.forEach(this::deleteQuietly);
+        }
+    }
+
+    public StagedBlob stage(InputStream content, long maxBytes) {
+        Path file = null;
+        try {
+            file = Files.createTempFile(staging, "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long size = 0;
+            try (OutputStream out = Files.newOutputStream(file)) {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new AttachmentQuotaExceededException(
+                                "Attachment exceeds the " + maxBytes + " bytes available for this ticket");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            StagedBlob staged = new StagedBlob(file, HexFormat.of().formatHex(digest.digest()), size);
+            file = null;
+            return staged;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (file != null) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    public <T> T commit(StagedBlob staged, Supplier<T> register) {
+        ReentrantLock lock = lockFor(staged.sha256());
+        lock.lock();
+        boolean created = false;
+        try {
+            Path target = path(staged.sha256());
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(staged.file(), target, StandardCopyOption.ATOMIC_MOVE);
+                    created = true;
+                } catch (FileAlreadyExistsException ignored) {
+                }
+            }
+            T result = register.get();
+            created = false;
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (created) {
+                deleteQuietly(path(staged.sha256()));
+            }
+            lock.unlock();
+            deleteQuietly(staged.file());
+        }
+    }
+
+    public Path path(String sha256) {
+        if (!DIGEST.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Invalid attachment digest " + sha256);
+        }
+        return directory.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    public void deleteIfUnreferenced(String sha256, Predicate<String> referenced) {
+        ReentrantLock lock = lockFor(sha256);
+        lock.lock();
+        try {
+            if (!referenced.test(sha256)) {
+                deleteQuietly(path(sha256));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int purgeOrphans(Set<String> referenced, Predicate<String> stillReferenced, Duration gracePeriod) {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        int[] purged = {0};
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> !file.startsWith(staging))
+                    .filter(file -> DIGEST.matcher(file.getFileName().toString()).matches())
+                    .filter(file -> !referenced.contains(file.getFileName().toString()))
+                    .forEach(file -> {
+                        String sha256 = file.getFileName().toString();
+                        ReentrantLock lock = lockFor(sha256);
+                        lock.lock();
+                        try {
+                            if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)
+                                    && !stillReferenced.test(sha256)) {
+                                Files.deleteIfExists(file);
+                                purged[0]++;
+                            }
+                        } catch (IOException e) {
+                            log.warn("Failed to purge orphaned attachment {}", file, e);
+                        } finally {
+                            lock.unlock();
+                        }
+                    });
+        } catch (IOException e) {
+            log.error("Attachment orphan sweep failed", e);
+        }
+        return purged[0];
+    }
+
+    private ReentrantLock lockFor(String sha256) {
+        return locks[Math.floorMod(sha256.hashCode(), LOCK_STRIPES)];
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}", file, e);
+        }
+    }
+
+    public record StagedBlob(Path file, String sha256, long size) {
+    }
+}
@@ -0,0 +1,220 @@
+package com.exist.helpdesk.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+final class AuditSegment {
+    static final int HEADER_SIZE = 12;
+    static final String INDEX_SUFFIX = ".idx";
+    static final int NO_PREVIOUS = -1;
+
+    private final long id;
+    private final int generation;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final Map<Long, Integer> lastPositions = new HashMap<>();
+    private int end;
+    private boolean sealed;
+
+    private AuditSegment(long id, int generation, Path path, MappedByteBuffer buffer, int end, boolean sealed) {
+        this.id = id;
+        this.generation = generation;
+        this.path = path;
+        this.buffer = buffer;
+        this.end = end;
+        this.sealed = sealed;
+    }
+
+    static AuditSegment openActive(long id, int generation, Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            int size = (int) Math.max(channel.size(), capacity);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            AuditSegment segment = new AuditSegment(id, generation, path, buffer, 0, false);
+            segment.end = segment.scan();
+            segment.clearTail();
+            return segment;
+        }
+    }
+
+    static AuditSegment openSealed(long id, int generation, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            AuditSegment segment = new AuditSegment(id, generation, path, buffer, 0, true);
+            if (!segment.loadIndex()) {
+                segment.end = segment.scan();
+                segment.writeIndex();
+            }
+            return segment;
+        }
+    }
+
+    static Path indexPath(Path segmentPath) {
+        return segmentPath.resolveSibling(segmentPath.getFileName() + INDEX_SUFFIX);
+    }
+
+    long id() {
+        return id;
+    }
+
+    int generation() {
+        return generation;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int end() {
+        return end;
+    }
+
+    boolean hasRoomFor(int payloadLength) {
+        return !sealed && (long) end + HEADER_SIZE + payloadLength <= buffer.capacity();
+    }
+
+    int append(long ticketId, byte[] payload, int length) {
+        int position = end;
+        buffer.put(position + HEADER_SIZE, payload, 0, length);
+        buffer.putInt(position + 8, lastPositions.getOrDefault(ticketId, NO_PREVIOUS));
+        buffer.putInt(position + 4, checksum(position, length));
+        buffer.putInt(position, length);
+        end = position + HEADER_SIZE + length;
+        lastPositions.put(ticketId, position);
+        return position;
+    }
+
+    ByteBuffer read(int position) {
+        int length = buffer.getInt(position);
+        return buffer.slice(position + HEADER_SIZE, length);
+    }
+
+    void collect(long ticketId, List<ByteBuffer> payloads) {
+        Integer last = lastPositions.get(ticketId);
+        if (last == null) {
+            return;
+        }
+        int from = payloads.size();
+        for (int position = last; position != NO_PREVIOUS; position = buffer.getInt(position + 8)) {
+            payloads.add(read(position));
+        }
+        Collections.reverse(payloads.subList(from, payloads.size()));
+    }
+
+    void forEach(RecordVisitor visitor) {
+        int position = 0;
+        while (position < end) {
+            int length = buffer.getInt(position);
+            visitor.visit(position, buffer.slice(position + HEADER_SIZE, length));
+            position += HEADER_SIZE + length;
+        }
+    }
+
+    void flush() {
+        if (!sealed) {
+            buffer.force();
+        }
+    }
+
+    void seal() throws IOException {
+        if (sealed) {
+            return;
+        }
+        buffer.force();
+        sealed = true;
+        writeIndex();
+    }
+
+    private int scan() {
+        lastPositions.clear();
+        int position = 0;
+        int capacity = buffer.capacity();
+        while (position + HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            if (length < Long.BYTES || (long) position + HEADER_SIZE + length > capacity
+                    || checksum(position, length) != buffer.getInt(position + 4)) {
+                break;
+            }
+            lastPositions.put(buffer.getLong(position + HEADER_SIZE), position);
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private int checksum(int position, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(position + 8, 4 + length));
+        return (int) crc.getValue();
+    }
+
+    private boolean loadIndex() throws IOException {
+        Path indexPath = indexPath(path);
+        if (!Files.exists(indexPath)) {
+            return false;
+        }
+        ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+        if (index.capacity() < 12) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(index.slice(0, index.capacity() - 4));
+        int indexedEnd = index.getInt();
+        int count = index.getInt();
+        if ((int) crc.getValue() != index.getInt(index.capacity() - 4) || indexedEnd > buffer.capacity()
+                || index.capacity() != 12 + count * 12L) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            lastPositions.put(index.getLong(), index.getInt());
+        }
+        end = indexedEnd;
+        return true;
+    }
+
+    private void writeIndex() throws IOException {
+        ByteBuffer index = ByteBuffer.allocate(12 + lastPositions.size() * 12);
+        index.putInt(end).putInt(lastPositions.size());
+        lastPositions.forEach((ticketId, position) -> index.putLong(ticketId).putInt(position));
+        CRC32 crc = new CRC32();
+        crc.update(index.array(), 0, index.position());
+        index.putInt((int) crc.getValue()).flip();
+        Path indexPath = indexPath(path);
+        Path temporary = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (index.hasRemaining()) {
+                channel.write(index);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void clearTail() {
+        int capacity = buffer.capacity();
+        if (end + HEADER_SIZE > capacity || buffer.getInt(end) == 0) {
+            return;
+        }
+        byte[] zeros = new byte[8192];
+        for (int position = end; position < capacity; position += zeros.length) {
+            buffer.put(position, zeros, 0, Math.min(zeros.length, capacity - position));
+        }
+        buffer.force();
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(int position, ByteBuffer payload);
+    }
+}
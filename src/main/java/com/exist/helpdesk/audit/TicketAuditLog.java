@@ -0,0 +1,327 @@
+package com.exist.helpdesk.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+@Component
+public class TicketAuditLog {
+    private static final Logger log = LoggerFactory.getLogger(TicketAuditLog.class);
+    private static final Pattern SEGMENT_NAME = Pattern.compile("(\\d{20})(?:\\.(\\d+))?\\.log");
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final TicketAuditRecord.Action[] ACTIONS = TicketAuditRecord.Action.values();
+    private static final TicketAuditRecord.Field[] FIELDS = TicketAuditRecord.Field.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration retention;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Long, AuditSegment> segments = new TreeMap<>();
+    private final Set<Path> obsolete = new LinkedHashSet<>();
+    private AuditSegment active;
+    private byte[] scratch = new byte[1024];
+
+    public TicketAuditLog(@Value("${helpdesk.audit.directory:data/audit}") Path directory,
+                          @Value("${helpdesk.audit.segment-size:64MB}") DataSize segmentSize,
+                          @Value("${helpdesk.audit.retention:365d}") Duration retention) {
+        this.directory = directory;
+        this.segmentSize = (int) Math.min(segmentSize.toBytes(), Integer.MAX_VALUE);
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        TreeMap<Long, Integer> generations = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                Matcher matcher = SEGMENT_NAME.matcher(name);
+                if (matcher.matches()) {
+                    int generation = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
+                    generations.merge(Long.parseLong(matcher.group(1)), generation, Math::max);
+                }
+                if (matcher.matches() || name.endsWith(AuditSegment.INDEX_SUFFIX) || name.endsWith(TEMPORARY_SUFFIX)) {
+                    obsolete.add(file);
+                }
+            });
+        }
+        long start = System.nanoTime();
+        for (Map.Entry<Long, Integer> entry : generations.entrySet()) {
+            long id = entry.getKey();
+            int generation = entry.getValue();
+            Path path = segmentPath(id, generation);
+            obsolete.remove(path);
+            if (id == generations.lastKey()) {
+                segments.put(id, AuditSegment.openActive(id, generation, path, segmentSize));
+            } else {
+                obsolete.remove(AuditSegment.indexPath(path));
+                segments.put(id, AuditSegment.openSealed(id, generation, path));
+            }
+        }
+        deleteObsolete();
+        active = segments.isEmpty() ? roll(0) : segments.lastEntry().getValue();
+        log.info("Recovered {} audit segments in {} ms", segments.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void record(TicketAuditRecord record) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    append(record);
+                } catch (RuntimeException e) {
+                    log.error("Failed to append audit record for ticket {}", record.ticketId(), e);
+                }
+            }
+        });
+    }
+
+    public void append(TicketAuditRecord record) {
+        lock.writeLock().lock();
+        try {
+            int length = encode(record);
+            if (AuditSegment.HEADER_SIZE + length > segmentSize) {
+                throw new IllegalArgumentException("Audit record of " + length + " bytes exceeds segment size");
+            }
+            if (!active.hasRoomFor(length)) {
+                active.seal();
+                active = roll(active.id() + 1);
+            }
+            active.append(record.ticketId(), scratch, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<TicketAuditRecord> history(long ticketId) {
+        lock.readLock().lock();
+        try {
+            List<ByteBuffer> payloads = new ArrayList<>();
+            for (AuditSegment segment : segments.values()) {
+                segment.collect(ticketId, payloads);
+            }
+            List<TicketAuditRecord> records = new ArrayList<>(payloads.size());
+            for (ByteBuffer payload : payloads) {
+                records.add(decode(payload));
+            }
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${helpdesk.audit.flush-interval:PT1S}")
+    public void flush() {
+        lock.readLock().lock();
+        try {
+            active.flush();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${helpdesk.audit.compaction-interval:PT6H}",
+            initialDelayString = "${helpdesk.audit.compaction-interval:PT6H}")
+    public void compact() {
+        long cutoff = Instant.now().minus(retention).toEpochMilli();
+        lock.writeLock().lock();
+        try {
+            for (AuditSegment segment : new ArrayList<>(segments.headMap(active.id()).values())) {
+                compact(segment, cutoff);
+            }
+            deleteObsolete();
+        } catch (IOException e) {
+            log.error("Audit log compaction failed", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            active.flush();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compact(AuditSegment segment, long cutoff) throws IOException {
+        List<ByteBuffer> retained = new ArrayList<>();
+        int[] dropped = {0};
+        segment.forEach((position, payload) -> {
+            if (payload.getLong(8) < cutoff) {
+                dropped[0]++;
+            } else {
+                retained.add(payload);
+            }
+        });
+        if (dropped[0] == 0) {
+            return;
+        }
+        if (retained.isEmpty()) {
+            segments.remove(segment.id());
+            retire(segment);
+            return;
+        }
+        int generation = segment.generation() + 1;
+        Path target = segmentPath(segment.id(), generation);
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(AuditSegment.HEADER_SIZE);
+            Map<Long, Integer> lastPositions = new HashMap<>();
+            int position = 0;
+            for (ByteBuffer payload : retained) {
+                int previous = lastPositions.getOrDefault(payload.getLong(0), AuditSegment.NO_PREVIOUS);
+                lastPositions.put(payload.getLong(0), position);
+                position += AuditSegment.HEADER_SIZE + payload.remaining();
+                CRC32 crc = new CRC32();
+                crc.update(ByteBuffer.allocate(4).putInt(0, previous));
+                crc.update(payload.duplicate());
+                header.clear();
+                header.putInt(payload.remaining()).putInt((int) crc.getValue()).putInt(previous).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                ByteBuffer body = payload.duplicate();
+                while (body.hasRemaining()) {
+                    channel.write(body);
+                }
+            }
+            channel.force(true);
+        }
+        retained.clear();
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        segments.put(segment.id(), AuditSegment.openSealed(segment.id(), generation, target));
+        retire(segment);
+    }
+
+    private void retire(AuditSegment segment) {
+        obsolete.add(segment.path());
+        obsolete.add(AuditSegment.indexPath(segment.path()));
+    }
+
+    private AuditSegment roll(long id) throws IOException {
+        AuditSegment segment = AuditSegment.openActive(id, 0, segmentPath(id, 0), segmentSize);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void deleteObsolete() {
+        Iterator<Path> paths = obsolete.iterator();
+        while (paths.hasNext()) {
+            Path path = paths.next();
+            try {
+                Files.deleteIfExists(path);
+                paths.remove();
+            } catch (IOException e) {
+                log.debug("Audit file {} is still mapped, retrying deletion later", path);
+            }
+        }
+    }
+
+    private Path segmentPath(long id, int generation) {
+        return directory.resolve(generation == 0 ? String.format("%020d.log", id)
+                : String.format("%020d.%d.log", id, generation));
+    }
+
+    private int encode(TicketAuditRecord record) {
+        ByteBuffer buffer = ByteBuffer.wrap(scratch);
+        while (true) {
+            try {
+                buffer.clear();
+                buffer.putLong(record.ticketId());
+                buffer.putLong(record.occurredAt().toEpochMilli());
+                buffer.put((byte) record.action().ordinal());
+                putString(buffer, record.actor());
+                buffer.put((byte) record.changes().size());
+                for (TicketAuditRecord.FieldChange change : record.changes()) {
+                    buffer.put((byte) change.field().ordinal());
+                    putString(buffer, change.oldValue());
+                    putString(buffer, change.newValue());
+                }
+                return buffer.position();
+            } catch (BufferOverflowException e) {
+                scratch = new byte[scratch.length * 2];
+                buffer = ByteBuffer.wrap(scratch);
+            }
+        }
+    }
+
+    private static TicketAuditRecord decode(ByteBuffer payload) {
+        ByteBuffer buffer = payload.duplicate();
+        long ticketId = buffer.getLong();
+        Instant occurredAt = Instant.ofEpochMilli(buffer.getLong());
+        TicketAuditRecord.Action action = ACTIONS[buffer.get()];
+        String actor = getString(buffer);
+        int count = buffer.get() & 0xff;
+        List<TicketAuditRecord.FieldChange> changes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TicketAuditRecord.Field field = FIELDS[buffer.get()];
+            changes.add(new TicketAuditRecord.FieldChange(field, getString(buffer), getString(buffer)));
+        }
+        return new TicketAuditRecord(ticketId, occurredAt, action, actor, changes);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
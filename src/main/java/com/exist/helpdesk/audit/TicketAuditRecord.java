@@ -0,0 +1,35 @@
+package com.exist.helpdesk.audit;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TicketAuditRecord(
+        long ticketId,
+        Instant occurredAt,
+        Action action,
+        String actor,
+        List<FieldChange> changes
+) {
+    public enum Action {
+        CREATED,
+        UPDATED,
+        REMARK_ADDED,
+        ESCALATED,
+        DELETED
+    }
+
+    public enum Field {
+        TITLE,
+        BODY,
+        STATUS,
+        ASSIGNEE,
+        REMARK
+    }
+
+    public record FieldChange(
+            Field field,
+            String oldValue,
+            String newValue
+    ) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.exist.helpdesk.cache;
+
+import com.exist.helpdesk.config.ReadWriteRoutingDataSource;
+import com.exist.helpdesk.event.EmployeeChangedEvent;
+import com.exist.helpdesk.event.RoleChangedEvent;
+import com.exist.helpdesk.event.TicketChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+@Component
+public class ListResultCache {
+    public static final String TICKETS = "tickets";
+    public static final String EMPLOYEES = "employees";
+    public static final String ROLES = "roles";
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Object> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLongArray generations;
+    private final AtomicLongArray bumpedAt;
+    private final int stripeMask;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long replicaLagNanos;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ListResultCache(MeterRegistry meterRegistry,
+                           @Value("${helpdesk.list-cache.max-entries:5000}") int maxEntries,
+                           @Value("${helpdesk.list-cache.ttl:60s}") Duration ttl,
+                           @Value("${helpdesk.list-cache.generation-stripes:1024}") int generationStripes,
+                           @Value("${helpdesk.list-cache.replica-lag:1s}") Duration replicaLag,
+                           @Value("${helpdesk.datasource.replica.url:}") String replicaUrl) {
+        int stripes = Integer.highestOneBit(Math.max(1, generationStripes - 1) << 1);
+        this.generations = new AtomicLongArray(stripes);
+        this.bumpedAt = new AtomicLongArray(stripes);
+        this.stripeMask = stripes - 1;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.replicaLagNanos = replicaUrl.isBlank() ? 0 : replicaLag.toNanos();
+        long settled = System.nanoTime() - replicaLagNanos;
+        for (int i = 0; i < stripes; i++) {
+            bumpedAt.set(i, settled);
+        }
+        this.hits = meterRegistry.counter("helpdesk.list.cache", "result", "hit");
+        this.misses = meterRegistry.counter("helpdesk.list.cache", "result", "miss");
+        Gauge.builder("helpdesk.list.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    public static String ticketStatusScope(String status) {
+        return TICKETS + ":status:" + status;
+    }
+
+    public static String ticketAssigneeScope(Long assigneeId) {
+        return TICKETS + ":assignee:" + assigneeId;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, List<String> scopes, Supplier<T> loader) {
+        Entry entry = entries.get(key);
+        if (entry != null && isCurrent(entry, System.nanoTime())) {
+            hits.increment();
+            return (T) entry.value();
+        }
+        misses.increment();
+        int[] stripes = new int[scopes.size()];
+        long[] snapshot = new long[scopes.size()];
+        boolean storable = !ReadWriteRoutingDataSource.isPrimaryForced();
+        long start = System.nanoTime();
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = stripe(scopes.get(i));
+            snapshot[i] = generations.get(stripes[i]);
+            storable &= start - bumpedAt.get(stripes[i]) >= replicaLagNanos;
+        }
+        T value = loader.get();
+        if (!storable) {
+            return value;
+        }
+        Entry loaded = new Entry(value, stripes, snapshot, System.nanoTime() + ttlNanos);
+        if (entries.put(key, loaded) == null) {
+            insertionOrder.add(key);
+            evict();
+        }
+        return value;
+    }
+
+    public void bump(String scope) {
+        int stripe = stripe(scope);
+        bumpedAt.set(stripe, System.nanoTime());
+        generations.incrementAndGet(stripe);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        bump(TICKETS);
+        if (event.status() != null) {
+            bump(ticketStatusScope(event.status()));
+        }
+        if (event.previousStatus() != null && event.statusChanged()) {
+            bump(ticketStatusScope(event.previousStatus()));
+        }
+        if (event.assigneeId() != null) {
+            bump(ticketAssigneeScope(event.assigneeId()));
+        }
+        if (event.previousAssigneeId() != null && event.assigneeChanged()) {
+            bump(ticketAssigneeScope(event.previousAssigneeId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        bump(EMPLOYEES);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        bump(ROLES);
+        bump(EMPLOYEES);
+    }
+
+    private int stripe(String scope) {
+        int hash = scope.hashCode();
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    private void evict() {
+        while (entries.size() > maxEntries) {
+            Object eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest);
+        }
+    }
+
+    private boolean isCurrent(Entry entry, long now) {
+        if (now - entry.expiresAtNanos() >= 0) {
+            return false;
+        }
+        for (int i = 0; i < entry.stripes().length; i++) {
+            if (generations.get(entry.stripes()[i]) != entry.snapshot()[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Entry(Object value, int[] stripes, long[] snapshot, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,251 @@
+package com.exist.helpdesk.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+@Component
+@Profile("seed")
+public class DataSeeder implements CommandLineRunner {
+    private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+    private static final String[] ROLE_NAMES = {
+            "AGENT", "SUPPORT", "SUPERVISOR", "NETWORK", "HARDWARE",
+            "SOFTWARE", "FACILITIES", "SECURITY", "HR", "FINANCE"
+    };
+    private static final String[] STATUSES = {"filed", "in-progress", "resolved", "closed", "draft"};
+    private static final int[] STATUS_WEIGHTS = {35, 25, 25, 10, 5};
+    private static final String[] EMPLOYMENT_STATUSES = {"active", "on-leave", "terminated"};
+    private static final int[] EMPLOYMENT_STATUS_WEIGHTS = {90, 5, 5};
+    private static final String[] TITLES = {
+            "VPN disconnects", "Password reset", "Laptop provisioning", "Printer jam", "Email not syncing",
+            "Access request", "Software install", "Slow network", "Broken monitor", "Badge not working"
+    };
+    private static final String TICKET_PREFIX = "SEED-";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final int roleCount;
+    private final int employeeCount;
+    private final int ticketCount;
+    private final int maxRemarks;
+    private final int meanRemarks;
+    private final int batchSize;
+    private final int days;
+    private final String password;
+    private final Set<String> resolvedStatuses;
+    private final Random random;
+
+    public DataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                      @Value("${helpdesk.seed.roles:10}") int roleCount,
+                      @Value("${helpdesk.seed.employees:1000}") int employeeCount,
+                      @Value("${helpdesk.seed.tickets:100000}") int ticketCount,
+                      @Value("${helpdesk.seed.max-remarks:500}") int maxRemarks,
+                      @Value("${helpdesk.seed.mean-remarks:6}") int meanRemarks,
+                      @Value("${helpdesk.seed.batch-size:1000}") int batchSize,
+                      @Value("${helpdesk.seed.days:365}") int days,
+                      @Value("${helpdesk.seed.password:password}") String password,
+                      @Value("${helpdesk.seed.random-seed:42}") long randomSeed,
+                      @Value("${helpdesk.tickets.resolved-statuses:resolved,closed}") Set<String> resolvedStatuses) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.roleCount = roleCount;
+        this.employeeCount = employeeCount;
+        this.ticketCount = ticketCount;
+        this.maxRemarks = maxRemarks;
+        this.meanRemarks = meanRemarks;
+        this.batchSize = batchSize;
+        this.days = days;
+        this.password = password;
+        this.resolvedStatuses = Set.copyOf(resolvedStatuses);
+        this.random = new Random(randomSeed);
+    }
+
+    @Override
+    public void run(String... args) {
+        Integer seeded = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tickets WHERE ticket_number LIKE ?", Integer.class, TICKET_PREFIX + "%");
+        if (seeded != null && seeded > 0) {
+            log.info("Synthetic data already present ({} tickets), skipping seed", seeded);
+            return;
+        }
+        long start = System.nanoTime();
+        List<Long> roleIds = seedRoles();
+        List<Long> employeeIds = seedEmployees(roleIds);
+        long remarks = seedTickets(employeeIds);
+        log.info("Seeded {} roles, {} employees, {} tickets and {} remarks in {} ms",
+                roleIds.size(), employeeIds.size(), ticketCount, remarks, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Long> seedRoles() {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList("SELECT name FROM roles", String.class));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < roleCount; i++) {
+            String name = i < ROLE_NAMES.length ? ROLE_NAMES[i] : "TEAM_" + (i - ROLE_NAMES.length + 1);
+            if (!existing.contains(name)) {
+                rows.add(new Object[]{name});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO roles (name, version) VALUES (?, 0)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM roles WHERE name <> 'ADMIN' ORDER BY id", Long.class);
+    }
+
+    private List<Long> seedEmployees(List<Long> roleIds) {
+        String passwordHash = passwordEncoder.encode(password);
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int i = 1; i <= employeeCount; i++) {
+            rows.add(new Object[]{
+                    "Employee " + i,
+                    21 + random.nextInt(40),
+                    "Building " + (1 + random.nextInt(12)),
+                    "+6391" + String.format("%08d", random.nextInt(100_000_000)),
+                    weighted(EMPLOYMENT_STATUSES, EMPLOYMENT_STATUS_WEIGHTS),
+                    "seed.user" + i,
+                    passwordHash,
+                    roleIds.get(skewedIndex(roleIds.size(), 2.0))
+            });
+            if (rows.size() == batchSize) {
+                insertEmployees(rows);
+            }
+        }
+        insertEmployees(rows);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM employees WHERE username LIKE 'seed.user%' ORDER BY id", Long.class);
+    }
+
+    private void insertEmployees(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (name, age, address, phone, employment_status, username, "
+                + "password, role_id, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        rows.clear();
+    }
+
+    private long seedTickets(List<Long> employeeIds) {
+        LocalDateTime now = LocalDateTime.now();
+        long remarkTotal = 0;
+        List<Object[]> ticketRows = new ArrayList<>(batchSize);
+        Map<String, Integer> remarkCounts = new HashMap<>(batchSize * 2);
+        Map<String, LocalDateTime> createdDates = new HashMap<>(batchSize * 2);
+        for (int i = 1; i <= ticketCount; i++) {
+            String ticketNumber = ticketNumber(i);
+            LocalDateTime created = now.minusSeconds((long) (random.nextDouble() * days * 86_400L));
+            LocalDateTime updated = created.plusMinutes(random.nextInt(7 * 24 * 60));
+            if (updated.isAfter(now)) {
+                updated = now;
+            }
+            String creator = String.valueOf(employeeIds.get(random.nextInt(employeeIds.size())));
+            String status = weighted(STATUSES, STATUS_WEIGHTS);
+            ticketRows.add(new Object[]{
+                    ticketNumber,
+                    TITLES[random.nextInt(TITLES.length)] + " #" + i,
+                    "Synthetic ticket body " + i,
+                    status,
+                    employeeIds.get(skewedIndex(employeeIds.size(), 3.0)),
+                    Timestamp.valueOf(created),
+                    creator,
+                    Timestamp.valueOf(updated),
+                    creator,
+                    resolvedStatuses.contains(status) ? Timestamp.valueOf(updated) : null
+            });
+            remarkCounts.put(ticketNumber, remarkCount());
+            createdDates.put(ticketNumber, created);
+            if (ticketRows.size() == batchSize || i == ticketCount) {
+                remarkTotal += insertTicketBatch(ticketRows, remarkCounts, createdDates, i - ticketRows.size() + 1, i);
+            }
+        }
+        return remarkTotal;
+    }
+
+    private long insertTicketBatch(List<Object[]> ticketRows, Map<String, Integer> remarkCounts,
+                                   Map<String, LocalDateTime> createdDates, int from, int to) {
+        jdbcTemplate.batchUpdate("INSERT INTO tickets (ticket_number, title, body, status, assignee_id, created_date, "
+                + "created_by, updated_date, updated_by, resolved_date, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                ticketRows);
+        ticketRows.clear();
+
+        List<Object[]> remarkRows = new ArrayList<>(batchSize);
+        long inserted = 0;
+        List<Map<String, Object>> ids = jdbcTemplate.queryForList(
+                "SELECT id, ticket_number FROM tickets WHERE ticket_number BETWEEN ? AND ?",
+                ticketNumber(from), ticketNumber(to));
+        for (Map<String, Object> row : ids) {
+            String ticketNumber = (String) row.get("TICKET_NUMBER");
+            Long ticketId = ((Number) row.get("ID")).longValue();
+            int count = remarkCounts.getOrDefault(ticketNumber, 0);
+            LocalDateTime created = createdDates.get(ticketNumber);
+            for (int r = 0; r < count; r++) {
+                remarkRows.add(new Object[]{
+                        ticketId,
+                        "Synthetic remark " + (r + 1),
+                        "agent" + random.nextInt(50),
+                        Timestamp.valueOf(created.plusMinutes(r + 1L))
+                });
+                if (remarkRows.size() == batchSize) {
+                    inserted += insertRemarks(remarkRows);
+                }
+            }
+        }
+        inserted += insertRemarks(remarkRows);
+        remarkCounts.clear();
+        createdDates.clear();
+        return inserted;
+    }
+
+    private int insertRemarks(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO ticket_remarks (ticket_id, remark, added_by, added_at) VALUES (?, ?, ?, ?)", rows);
+        int size = rows.size();
+        rows.clear();
+        return size;
+    }
+
+    private int remarkCount() {
+        if (maxRemarks >= 100 && random.nextInt(100) == 0) {
+            return 100 + random.nextInt(maxRemarks - 99);
+        }
+        int count = (int) Math.floor(-Math.log(1 - random.nextDouble()) * meanRemarks);
+        return Math.min(count, maxRemarks);
+    }
+
+    private int skewedIndex(int size, double skew) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), skew)));
+    }
+
+    private String weighted(String[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static String ticketNumber(int index) {
+        return TICKET_PREFIX + String.format("%09d", index);
+    }
+}
@@ -0,0 +1,70 @@
+package com.exist.helpdesk.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(prefix = "helpdesk.datasource.replica", name = "url")
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesInterceptor(
+            @Value("${helpdesk.datasource.read-your-writes-window:5s}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String client = client(request);
+        if (client == null) {
+            return true;
+        }
+        if (isWrite(request)) {
+            lastWrites.put(client, System.nanoTime());
+        } else if (wroteRecently(client)) {
+            ReadWriteRoutingDataSource.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadWriteRoutingDataSource.clear();
+        String client = client(request);
+        if (client != null && isWrite(request) && response.getStatus() < 400) {
+            lastWrites.put(client, System.nanoTime());
+        }
+    }
+
+    private boolean wroteRecently(String client) {
+        Long lastWrite = lastWrites.get(client);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite <= windowNanos) {
+            return true;
+        }
+        lastWrites.remove(client, lastWrite);
+        return false;
+    }
+
+    private static String client(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : null;
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+}
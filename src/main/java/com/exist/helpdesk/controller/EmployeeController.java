@@ -4,6 +4,8 @@ import com.exist.helpdesk.dto.employee.EmployeeUpdateRequestDTO;
 import com.exist.helpdesk.service.EmployeeService;
 import com.exist.helpdesk.dto.employee.EmployeeResponseDTO;
 import com.exist.helpdesk.dto.PaginatedResponse;
+import com.exist.helpdesk.dto.BatchResponse;
+import com.exist.helpdesk.utils.PreferHeaderUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +13,8 @@ import org.springframework.http.ResponseEntity;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/employees")
 public class EmployeeController {
@@ -36,6 +40,12 @@ public class EmployeeController {
     ) {
         return employeeService.getEmployees(page, size, sortBy, sortDir, name, age, address, phone, employmentStatus, roleId);
     }
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/batch")
+    public BatchResponse<EmployeeResponseDTO> getEmployeesByIds(@RequestParam List<Long> ids) {
+        return employeeService.getEmployeesByIds(ids);
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/{id}")
     public EmployeeResponseDTO getEmployeeById(@PathVariable Long id) {
@@ -50,8 +60,14 @@ public class EmployeeController {
 
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
-    public EmployeeResponseDTO updateEmployee(@PathVariable Long id, @Valid @RequestBody EmployeeUpdateRequestDTO request) {
-        return employeeService.updateEmployee(id, request);
+    public ResponseEntity<EmployeeResponseDTO> updateEmployee(
+            @PathVariable Long id,
+            @RequestHeader(value = PreferHeaderUtil.PREFER_HEADER, required = false) String prefer,
+            @Valid @RequestBody EmployeeUpdateRequestDTO request) {
+        if (PreferHeaderUtil.isReturnMinimal(prefer)) {
+            return PreferHeaderUtil.minimal("/api/employees", employeeService.updateEmployeeMinimal(id, request));
+        }
+        return ResponseEntity.ok(employeeService.updateEmployee(id, request));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -2,39 +2,71 @@ package com.exist.helpdesk.controller;
 
 import com.exist.helpdesk.dto.*;
 import com.exist.helpdesk.dto.helpdeskticket.*;
+import com.exist.helpdesk.idempotency.IdempotentRequestExecutor;
 import com.exist.helpdesk.service.HelpdeskTicketService;
+import com.exist.helpdesk.utils.PreferHeaderUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
 import jakarta.validation.Valid;
 import org.springframework.security.access.prepost.PreAuthorize;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/tickets")
 public class HelpdeskTicketController {
     private final HelpdeskTicketService ticketService;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
 
     @Autowired
-    public HelpdeskTicketController(HelpdeskTicketService ticketService) {
+    public HelpdeskTicketController(HelpdeskTicketService ticketService,
+                                    IdempotentRequestExecutor idempotentRequestExecutor) {
         this.ticketService = ticketService;
+        this.idempotentRequestExecutor = idempotentRequestExecutor;
     }
 
     @PreAuthorize("isAuthenticated()")
     @PostMapping
-    public HelpdeskTicketResponseDTO createTicket(@Valid @RequestBody HelpdeskTicketCreateRequestDTO dto) {
-        return ticketService.createTicket(dto);
+    public ResponseEntity<HelpdeskTicketResponseDTO> createTicket(
+            @RequestHeader(value = IdempotentRequestExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = PreferHeaderUtil.PREFER_HEADER, required = false) String prefer,
+            @Valid @RequestBody HelpdeskTicketCreateRequestDTO dto) {
+        if (PreferHeaderUtil.isReturnMinimal(prefer)) {
+            WriteReceipt receipt = idempotentRequestExecutor.execute(idempotencyKey, "POST /api/tickets;return=minimal",
+                    dto, WriteReceipt.class, () -> ticketService.createTicketMinimal(dto));
+            return PreferHeaderUtil.minimal("/api/tickets", receipt);
+        }
+        return ResponseEntity.ok(idempotentRequestExecutor.execute(idempotencyKey, "POST /api/tickets", dto,
+                HelpdeskTicketResponseDTO.class, () -> ticketService.createTicket(dto)));
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/bulk/status")
+    public BulkStatusTransitionResponseDTO transitionStatus(@Valid @RequestBody BulkStatusTransitionRequestDTO dto) {
+        return ticketService.transitionStatus(dto);
     }
 
     @PreAuthorize("isAuthenticated()")
     @PutMapping("/{id}")
-    public HelpdeskTicketResponseDTO updateTicket(@PathVariable Long id, @Valid @RequestBody HelpdeskTicketUpdateRequestDTO dto) {
-        return ticketService.updateTicket(id, dto);
+    public ResponseEntity<HelpdeskTicketResponseDTO> updateTicket(
+            @PathVariable Long id,
+            @RequestHeader(value = PreferHeaderUtil.PREFER_HEADER, required = false) String prefer,
+            @Valid @RequestBody HelpdeskTicketUpdateRequestDTO dto) {
+        if (PreferHeaderUtil.isReturnMinimal(prefer)) {
+            return PreferHeaderUtil.minimal("/api/tickets", ticketService.updateTicketMinimal(id, dto));
+        }
+        return ResponseEntity.ok(ticketService.updateTicket(id, dto));
     }
 
     @PreAuthorize("isAuthenticated()")
     @PatchMapping("/{id}/remarks")
-    public RemarkResponseDTO addRemark(@PathVariable Long id, @Valid @RequestBody RemarkCreateRequestDTO dto) {
-        return ticketService.addRemarkToTicket(id, dto);
+    public RemarkResponseDTO addRemark(
+            @PathVariable Long id,
+            @RequestHeader(value = IdempotentRequestExecutor.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody RemarkCreateRequestDTO dto) {
+        return idempotentRequestExecutor.execute(idempotencyKey, "PATCH /api/tickets/" + id + "/remarks", dto,
+                RemarkResponseDTO.class, () -> ticketService.addRemarkToTicket(id, dto));
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -50,12 +82,24 @@ public class HelpdeskTicketController {
         return ticketService.getTickets(page, size, sortBy, sortDir, status, assigneeId, createdById);
     }
 
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/batch")
+    public BatchResponse<HelpdeskTicketResponseDTO> getTicketsByIds(@RequestParam List<Long> ids) {
+        return ticketService.getTicketsByIds(ids);
+    }
+
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/{id}")
     public HelpdeskTicketResponseDTO getTicketById(@PathVariable Long id) {
         return ticketService.getTicketById(id);
     }
 
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{id}/history")
+    public List<TicketHistoryEntryDTO> getTicketHistory(@PathVariable Long id) {
+        return ticketService.getTicketHistory(id);
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTicket(@PathVariable Long id) {
@@ -0,0 +1,31 @@
+package com.exist.helpdesk.controller;
+
+import com.exist.helpdesk.dto.report.TicketReportDTO;
+import com.exist.helpdesk.service.TicketReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+    private final TicketReportService reportService;
+
+    @Autowired
+    public ReportController(TicketReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/tickets")
+    public TicketReportDTO getTicketReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "assignee") String groupBy,
+            @RequestParam(defaultValue = "day") String interval) {
+        return reportService.getTicketReport(from, to, groupBy, interval);
+    }
+}
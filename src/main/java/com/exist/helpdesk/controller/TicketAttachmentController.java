@@ -0,0 +1,61 @@
+package com.exist.helpdesk.controller;
+
+import com.exist.helpdesk.attachment.AttachmentDownloadWriter;
+import com.exist.helpdesk.dto.attachment.AttachmentResponseDTO;
+import com.exist.helpdesk.service.TicketAttachmentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tickets/{ticketId}/attachments")
+public class TicketAttachmentController {
+    private final TicketAttachmentService attachmentService;
+    private final AttachmentDownloadWriter downloadWriter;
+
+    @Autowired
+    public TicketAttachmentController(TicketAttachmentService attachmentService,
+                                      AttachmentDownloadWriter downloadWriter) {
+        this.attachmentService = attachmentService;
+        this.downloadWriter = downloadWriter;
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping
+    public AttachmentResponseDTO uploadAttachment(
+            @PathVariable Long ticketId,
+            @RequestParam String fileName,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream content) {
+        return attachmentService.uploadAttachment(ticketId, fileName, contentType, contentLength, content);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping
+    public List<AttachmentResponseDTO> getAttachments(@PathVariable Long ticketId) {
+        return attachmentService.getAttachments(ticketId);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{attachmentId}/content")
+    public void downloadAttachment(@PathVariable Long ticketId, @PathVariable Long attachmentId,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        downloadWriter.write(attachmentService.getAttachmentContent(ticketId, attachmentId), request, response);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<Void> deleteAttachment(@PathVariable Long ticketId, @PathVariable Long attachmentId) {
+        attachmentService.deleteAttachment(ticketId, attachmentId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.exist.helpdesk.dto;
+
+import java.util.List;
+
+public record BatchResponse<T>(
+        List<Item<T>> items,
+        int found,
+        int notFound
+) {
+    public static record Item<T>(
+            Long id,
+            boolean found,
+            T data
+    ) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.exist.helpdesk.dto;
+
+public record WriteReceipt(
+        Long id,
+        String ticketNumber,
+        Integer version
+) {
+}
@@ -0,0 +1,14 @@
+package com.exist.helpdesk.dto.attachment;
+
+import java.time.LocalDateTime;
+
+public record AttachmentResponseDTO(
+        Long id,
+        String fileName,
+        String contentType,
+        long size,
+        String sha256,
+        String uploadedBy,
+        LocalDateTime uploadedAt
+) {
+}
@@ -0,0 +1,23 @@
+package com.exist.helpdesk.dto.helpdeskticket;
+
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+public record BulkStatusTransitionRequestDTO(
+        List<Long> ids,
+
+        String status,
+
+        Long assigneeId,
+
+        Long createdById,
+
+        @NotBlank
+        String targetStatus,
+
+        String remark,
+
+        Boolean dryRun
+) {
+}
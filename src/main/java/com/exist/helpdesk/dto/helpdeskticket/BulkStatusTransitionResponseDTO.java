@@ -0,0 +1,8 @@
+package com.exist.helpdesk.dto.helpdeskticket;
+
+public record BulkStatusTransitionResponseDTO(
+        String targetStatus,
+        int affected,
+        boolean dryRun
+) {
+}
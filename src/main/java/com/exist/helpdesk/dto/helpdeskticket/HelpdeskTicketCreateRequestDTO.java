@@ -12,9 +12,10 @@ public record HelpdeskTicketCreateRequestDTO(
         @NotBlank
         String body,
 
-        @NotNull
         Long assigneeId,
 
-        Boolean filed
+        Boolean filed,
+
+        Long assigneeRoleId
 ) {
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ public record HelpdeskTicketResponseDTO(
         String createdBy,
         LocalDateTime updatedDate,
         String updatedBy,
+        LocalDateTime resolvedDate,
         List<RemarkResponseDTO> remarks
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.exist.helpdesk.dto.helpdeskticket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TicketHistoryEntryDTO(
+        LocalDateTime changedAt,
+        String changedBy,
+        String action,
+        List<FieldChange> changes
+) {
+    public static record FieldChange(
+            String field,
+            String oldValue,
+            String newValue
+    ) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.exist.helpdesk.dto.report;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TicketReportDTO(
+        LocalDate from,
+        LocalDate to,
+        String groupBy,
+        String interval,
+        Series overall,
+        List<Series> groups
+) {
+    public static record Series(
+            Long groupId,
+            long openAtStart,
+            long created,
+            long resolved,
+            Double mttrHours,
+            List<Point> points
+    ) {
+    }
+
+    public static record Point(
+            LocalDate periodStart,
+            long created,
+            long resolved,
+            long backlog,
+            Double mttrHours
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.exist.helpdesk.event;
+
+public record EmployeeChangedEvent(
+        Long employeeId,
+        Type type,
+        Long roleId,
+        String employmentStatus
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
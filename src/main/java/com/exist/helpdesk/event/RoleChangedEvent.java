@@ -0,0 +1,12 @@
+package com.exist.helpdesk.event;
+
+public record RoleChangedEvent(
+        Long roleId,
+        Type type
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,29 @@
+package com.exist.helpdesk.event;
+
+import java.time.LocalDateTime;
+
+public record TicketChangedEvent(
+        Long ticketId,
+        Type type,
+        String status,
+        String previousStatus,
+        Long assigneeId,
+        Long previousAssigneeId,
+        LocalDateTime occurredAt
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        REMARK_ADDED,
+        ESCALATED,
+        DELETED
+    }
+
+    public boolean statusChanged() {
+        return status == null ? previousStatus != null : !status.equals(previousStatus);
+    }
+
+    public boolean assigneeChanged() {
+        return assigneeId == null ? previousAssigneeId != null : !assigneeId.equals(previousAssigneeId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.exist.helpdesk.exception;
+
+public class AttachmentQuotaExceededException extends RuntimeException {
+    public AttachmentQuotaExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,4 @@
+package com.exist.helpdesk.idempotency;
+
+public record IdempotencyKey(String principal, String key) {
+}
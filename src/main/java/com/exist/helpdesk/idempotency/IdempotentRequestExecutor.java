@@ -0,0 +1,316 @@
+package com.exist.helpdesk.idempotency;
+
+import com.exist.helpdesk.exception.IdempotencyConflictException;
+import com.exist.helpdesk.exception.InvalidRequestException;
+import com.exist.helpdesk.utils.SecurityUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+public class IdempotentRequestExecutor {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Map<IdempotencyKey, Entry> entries = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ObjectMapper objectMapper;
+    private final JdbcIdempotencyStore persistentStore;
+    private final Set<IdempotencyKey> activeClaims = ConcurrentHashMap.newKeySet();
+    private final TransactionTemplate transaction;
+    private final Duration ttl;
+    private final Duration lease;
+    private final int maxEntries;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    public IdempotentRequestExecutor(ObjectMapper objectMapper,
+                                     ObjectProvider<JdbcIdempotencyStore> persistentStore,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${helpdesk.idempotency.ttl:24h}") Duration ttl,
+                                     @Value("${helpdesk.idempotency.lease:30s}") Duration lease,
+                                     @Value("${helpdesk.idempotency.max-entries:10000}") int maxEntries,
+                                     @Value("${helpdesk.idempotency.wait-timeout:30s}") Duration waitTimeout,
+                                     @Value("${helpdesk.idempotency.poll-interval:100ms}") Duration pollInterval) {
+        this.objectMapper = objectMapper;
+        this.persistentStore = persistentStore.getIfAvailable();
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.lease = lease;
+        this.maxEntries = maxEntries;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    public <T> T execute(String idempotencyKey, String operation, Object request, Class<T> responseType,
+                         Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException(
+                    IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        IdempotencyKey key = new IdempotencyKey(SecurityUtils.currentUsername(), idempotencyKey);
+        String fingerprint = fingerprint(operation, request);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            Entry entry;
+            boolean owner = false;
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                entry = entries.get(key);
+                if (entry != null && entry.isExpired(now)) {
+                    entries.remove(key);
+                    entry = null;
+                }
+                if (entry == null) {
+                    entry = new Entry(fingerprint);
+                    entries.put(key, entry);
+                    owner = true;
+                    evict(now);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!entry.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyConflictException(
+                        IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            }
+            if (owner) {
+                return runFirst(key, entry, fingerprint, responseType, action, deadline);
+            }
+            Optional<Object> completed = await(entry, deadline);
+            if (completed.isPresent()) {
+                markReplayed();
+                return responseType.cast(completed.get());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${helpdesk.idempotency.purge-interval:PT1M}")
+    public void purgeExpired() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        } finally {
+            lock.unlock();
+        }
+        if (persistentStore != null) {
+            persistentStore.purgeExpired(Instant.now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${helpdesk.idempotency.lease-renew-interval:PT10S}")
+    public void renewLeases() {
+        if (persistentStore == null || activeClaims.isEmpty()) {
+            return;
+        }
+        Instant expiresAt = Instant.now().plus(lease);
+        for (IdempotencyKey key : activeClaims) {
+            persistentStore.renew(key, expiresAt);
+        }
+    }
+
+    private <T> T runFirst(IdempotencyKey key, Entry entry, String fingerprint, Class<T> responseType,
+                           Supplier<T> action, long deadline) {
+        boolean claimed = false;
+        try {
+            Optional<T> persisted = Optional.empty();
+            if (persistentStore != null) {
+                persisted = claimOrAwait(key, fingerprint, responseType, deadline);
+                claimed = persisted.isEmpty();
+            }
+            T result;
+            if (persisted.isPresent()) {
+                result = persisted.get();
+                markReplayed();
+            } else if (claimed) {
+                activeClaims.add(key);
+                try {
+                    result = transaction.execute(status -> {
+                        T value = action.get();
+                        persistentStore.complete(key, toJson(value), Instant.now().plus(ttl));
+                        return value;
+                    });
+                } finally {
+                    activeClaims.remove(key);
+                }
+            } else {
+                result = action.get();
+            }
+            entry.complete(result, System.nanoTime() + ttl.toNanos());
+            return result;
+        } catch (RuntimeException | Error e) {
+            lock.lock();
+            try {
+                entries.remove(key, entry);
+            } finally {
+                lock.unlock();
+            }
+            if (claimed) {
+                persistentStore.release(key);
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private <T> Optional<T> claimOrAwait(IdempotencyKey key, String fingerprint, Class<T> responseType,
+                                         long deadline) {
+        while (true) {
+            Instant now = Instant.now();
+            if (persistentStore.claim(key, fingerprint, now.plus(lease))) {
+                return Optional.empty();
+            }
+            Optional<JdbcIdempotencyStore.StoredResponse> stored = persistentStore.find(key);
+            if (stored.isEmpty()) {
+                continue;
+            }
+            JdbcIdempotencyStore.StoredResponse response = stored.get();
+            if (response.expiresAt().isBefore(now)) {
+                persistentStore.releaseIfExpired(key, now);
+                continue;
+            }
+            if (!response.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyConflictException(
+                        IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            }
+            if (response.isCompleted()) {
+                return Optional.of(fromJson(response.responseBody(), responseType));
+            }
+            if (System.nanoTime() >= deadline) {
+                throw stillInProgress();
+            }
+            sleep(pollInterval);
+        }
+    }
+
+    private Optional<Object> await(Entry entry, long deadline) {
+        try {
+            return Optional.of(entry.result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        } catch (TimeoutException e) {
+            throw stillInProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw stillInProgress();
+        }
+    }
+
+    private void evict(long now) {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().result.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Unable to fingerprint request", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to store idempotent response", e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read stored idempotent response", e);
+        }
+    }
+
+    private static IdempotencyConflictException stillInProgress() {
+        return new IdempotencyConflictException(
+                "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw stillInProgress();
+        }
+    }
+
+    private static void markReplayed() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletResponse response = servletAttributes.getResponse();
+            if (response != null) {
+                response.setHeader(REPLAYED_HEADER, "true");
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private void complete(Object value, long expiresAt) {
+            this.expiresAt = expiresAt;
+            result.complete(value);
+        }
+
+        private boolean isExpired(long now) {
+            return result.isDone() && expiresAt != Long.MAX_VALUE && now - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.exist.helpdesk.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(prefix = "helpdesk.idempotency", name = "persistent", havingValue = "true")
+public class JdbcIdempotencyStore {
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean claim(IdempotencyKey key, String fingerprint, Instant expiresAt) {
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_keys (principal, idempotency_key, fingerprint, created_at, "
+                            + "expires_at) VALUES (?, ?, ?, ?, ?)",
+                    key.principal(), key.key(), fingerprint, Timestamp.from(Instant.now()), Timestamp.from(expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public Optional<StoredResponse> find(IdempotencyKey key) {
+        List<StoredResponse> rows = jdbcTemplate.query(
+                "SELECT fingerprint, response_body, expires_at FROM idempotency_keys "
+                        + "WHERE principal = ? AND idempotency_key = ?",
+                (rs, rowNum) -> new StoredResponse(rs.getString("fingerprint"), rs.getString("response_body"),
+                        rs.getTimestamp("expires_at").toInstant()),
+                key.principal(), key.key());
+        return rows.stream().findFirst();
+    }
+
+    public void complete(IdempotencyKey key, String responseBody, Instant expiresAt) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET response_body = ?, expires_at = ? "
+                        + "WHERE principal = ? AND idempotency_key = ?",
+                responseBody, Timestamp.from(expiresAt), key.principal(), key.key());
+    }
+
+    public void renew(IdempotencyKey key, Instant expiresAt) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = ? "
+                        + "WHERE principal = ? AND idempotency_key = ? AND response_body IS NULL",
+                Timestamp.from(expiresAt), key.principal(), key.key());
+    }
+
+    public void release(IdempotencyKey key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE principal = ? AND idempotency_key = ?",
+                key.principal(), key.key());
+    }
+
+    public void releaseIfExpired(IdempotencyKey key, Instant now) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE principal = ? AND idempotency_key = ? AND expires_at < ?",
+                key.principal(), key.key(), Timestamp.from(now));
+    }
+
+    public int purgeExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", Timestamp.from(now));
+    }
+
+    public record StoredResponse(String fingerprint, String responseBody, Instant expiresAt) {
+        public boolean isCompleted() {
+            return responseBody != null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.exist.helpdesk.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class ConcurrencyLimits {
+    private final Map<RequestClass, AimdLimiter> limiters = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Counter> shed = new EnumMap<>(RequestClass.class);
+
+    public ConcurrencyLimits(MeterRegistry meterRegistry,
+                             @Value("${helpdesk.concurrency.min-limit:1}") int minLimit,
+                             @Value("${helpdesk.concurrency.backoff-ratio:0.9}") double backoffRatio,
+                             @Value("${helpdesk.concurrency.login.max-limit:16}") int loginMaxLimit,
+                             @Value("${helpdesk.concurrency.login.latency-target:750ms}") Duration loginLatencyTarget,
+                             @Value("${helpdesk.concurrency.list.max-limit:64}") int listMaxLimit,
+                             @Value("${helpdesk.concurrency.list.latency-target:300ms}") Duration listLatencyTarget,
+                             @Value("${helpdesk.concurrency.write.max-limit:64}") int writeMaxLimit,
+                             @Value("${helpdesk.concurrency.write.latency-target:300ms}") Duration writeLatencyTarget,
+                             @Value("${helpdesk.concurrency.report.max-limit:4}") int reportMaxLimit,
+                             @Value("${helpdesk.concurrency.report.latency-target:10s}") Duration reportLatencyTarget) {
+        limiters.put(RequestClass.LOGIN, new AimdLimiter(loginMaxLimit / 2, minLimit, loginMaxLimit,
+                loginLatencyTarget, backoffRatio));
+        limiters.put(RequestClass.LIST, new AimdLimiter(listMaxLimit / 2, minLimit, listMaxLimit,
+                listLatencyTarget, backoffRatio));
+        limiters.put(RequestClass.WRITE, new AimdLimiter(writeMaxLimit / 2, minLimit, writeMaxLimit,
+                writeLatencyTarget, backoffRatio));
+        limiters.put(RequestClass.REPORT, new AimdLimiter(Math.max(minLimit, reportMaxLimit / 2), minLimit,
+                reportMaxLimit, reportLatencyTarget, backoffRatio));
+        limiters.forEach((requestClass, limiter) -> {
+            Gauge.builder("helpdesk.concurrency.limit", limiter, AimdLimiter::getLimit)
+                    .tag("class", requestClass.tag()).register(meterRegistry);
+            Gauge.builder("helpdesk.concurrency.in-flight", limiter, AimdLimiter::getInFlight)
+                    .tag("class", requestClass.tag()).register(meterRegistry);
+            shed.put(requestClass, meterRegistry.counter("helpdesk.concurrency.shed", "class", requestClass.tag()));
+        });
+    }
+
+    public RequestClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/api/") || path.contains("/attachments")) {
+            return null;
+        }
+        String method = request.getMethod();
+        if (path.equals("/api/auth/login")) {
+            return "POST".equals(method) ? RequestClass.LOGIN : null;
+        }
+        if ("GET".equals(method) && path.startsWith("/api/reports/")) {
+            return RequestClass.REPORT;
+        }
+        if ("GET".equals(method)) {
+            boolean list = path.equals("/api/tickets") || path.equals("/api/employees") || path.equals("/api/roles")
+                    || path.endsWith("/batch");
+            return list ? RequestClass.LIST : null;
+        }
+        return "HEAD".equals(method) || "OPTIONS".equals(method) ? null : RequestClass.WRITE;
+    }
+
+    public AimdLimiter limiter(RequestClass requestClass) {
+        return limiters.get(requestClass);
+    }
+
+    public void recordShed(RequestClass requestClass) {
+        shed.get(requestClass).increment();
+    }
+
+    public enum RequestClass {
+        LOGIN, LIST, WRITE, REPORT;
+
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.exist.helpdesk.mapper;
+
+import com.exist.helpdesk.dto.attachment.AttachmentResponseDTO;
+import com.exist.helpdesk.model.TicketAttachment;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface TicketAttachmentMapper {
+
+    AttachmentResponseDTO toResponse(TicketAttachment attachment);
+}
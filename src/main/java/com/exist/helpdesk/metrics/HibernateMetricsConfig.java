@@ -0,0 +1,40 @@
+package com.exist.helpdesk.metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateMetricsConfig {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateMetricsConfig(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        PostLoadEventListener postLoad = event -> {
+            RequestStatistics statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.entityLoaded();
+            }
+        };
+        InitializeCollectionEventListener initializeCollection = event -> {
+            RequestStatistics statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.collectionFetched();
+            }
+        };
+        registry.appendListeners(EventType.POST_LOAD, postLoad);
+        registry.appendListeners(EventType.INIT_COLLECTION, initializeCollection);
+    }
+}
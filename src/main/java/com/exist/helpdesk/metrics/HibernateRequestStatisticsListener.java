@@ -0,0 +1,31 @@
+package com.exist.helpdesk.metrics;
+
+import org.hibernate.SessionEventListener;
+
+public class HibernateRequestStatisticsListener implements SessionEventListener {
+    private long acquisitionStart;
+    private long acquiredAt;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestStatistics statistics = RequestStatistics.current();
+        acquiredAt = System.nanoTime();
+        if (statistics != null) {
+            statistics.connectionAcquired(acquiredAt - acquisitionStart);
+        }
+    }
+
+    @Override
+    public void jdbcConnectionReleaseEnd() {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null && acquiredAt != 0) {
+            statistics.connectionReleased(System.nanoTime() - acquiredAt);
+        }
+        acquiredAt = 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.exist.helpdesk.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsInterceptor.class);
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+    private final long connectionHoldBudgetNanos;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry,
+                                     @Value("${helpdesk.request.connection-hold-budget:250ms}") Duration connectionHoldBudget) {
+        this.meterRegistry = meterRegistry;
+        this.connectionHoldBudgetNanos = connectionHoldBudget.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            RequestStatistics.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod handlerMethod) || start == null) {
+            return;
+        }
+        RequestStatistics statistics = RequestStatistics.current();
+        RequestStatistics.end();
+        Tags tags = Tags.of(
+                "controller", handlerMethod.getBeanType().getSimpleName(),
+                "method", handlerMethod.getMethod().getName());
+
+        Timer.builder("helpdesk.controller.requests")
+                .tags(tags)
+                .tag("status", String.valueOf(response.getStatus()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - (Long) start, TimeUnit.NANOSECONDS);
+        if (statistics == null) {
+            return;
+        }
+        summary("helpdesk.request.statements", "statements", tags).record(statistics.getStatements());
+        summary("helpdesk.request.entities.loaded", "entities", tags).record(statistics.getEntitiesLoaded());
+        summary("helpdesk.request.collections.fetched", "collections", tags).record(statistics.getCollectionsFetched());
+        Timer.builder("helpdesk.request.connection.acquire")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getConnectionAcquireNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("helpdesk.request.connection.hold")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getConnectionHoldNanos(), TimeUnit.NANOSECONDS);
+        if (statistics.getConnectionsHeld() > 0) {
+            meterRegistry.counter("helpdesk.request.connection.violations", tags.and("reason", "held-after-handler"))
+                    .increment();
+            log.warn("{} {} still held {} JDBC connection(s) after the handler completed",
+                    request.getMethod(), request.getRequestURI(), statistics.getConnectionsHeld());
+        } else if (statistics.getConnectionHoldNanos() > connectionHoldBudgetNanos) {
+            meterRegistry.counter("helpdesk.request.connection.violations", tags.and("reason", "over-budget"))
+                    .increment();
+            log.warn("{} {} held JDBC connections for {} ms, over the {} ms budget", request.getMethod(),
+                    request.getRequestURI(), TimeUnit.NANOSECONDS.toMillis(statistics.getConnectionHoldNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(connectionHoldBudgetNanos));
+        }
+    }
+
+    private DistributionSummary summary(String name, String unit, Tags tags) {
+        return DistributionSummary.builder(name)
+                .baseUnit(unit)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
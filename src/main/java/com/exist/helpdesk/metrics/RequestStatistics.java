@@ -0,0 +1,72 @@
+package com.exist.helpdesk.metrics;
+
+public class RequestStatistics {
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entitiesLoaded;
+    private int collectionsFetched;
+    private long connectionAcquireNanos;
+    private long connectionHoldNanos;
+    private int connectionsHeld;
+
+    public static RequestStatistics begin() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void statementPrepared() {
+        statements++;
+    }
+
+    public void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    public void collectionFetched() {
+        collectionsFetched++;
+    }
+
+    public void connectionAcquired(long nanos) {
+        connectionAcquireNanos += nanos;
+        connectionsHeld++;
+    }
+
+    public void connectionReleased(long heldNanos) {
+        connectionHoldNanos += heldNanos;
+        connectionsHeld = Math.max(0, connectionsHeld - 1);
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public int getCollectionsFetched() {
+        return collectionsFetched;
+    }
+
+    public long getConnectionAcquireNanos() {
+        return connectionAcquireNanos;
+    }
+
+    public long getConnectionHoldNanos() {
+        return connectionHoldNanos;
+    }
+
+    public int getConnectionsHeld() {
+        return connectionsHeld;
+    }
+}
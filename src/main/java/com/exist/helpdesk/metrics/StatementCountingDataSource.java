@@ -0,0 +1,52 @@
+package com.exist.helpdesk.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Set;
+
+public class StatementCountingDataSource {
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private StatementCountingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        ProxyFactory factory = new ProxyFactory(dataSource);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice((MethodInterceptor) invocation -> {
+            Object result = invocation.proceed();
+            if (result instanceof Connection connection && "getConnection".equals(invocation.getMethod().getName())) {
+                return counting(connection);
+            }
+            return result;
+        });
+        return (DataSource) factory.getProxy(dataSource.getClass().getClassLoader());
+    }
+
+    private static Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (STATEMENT_METHODS.contains(method.getName())) {
+                        RequestStatistics statistics = RequestStatistics.current();
+                        if (statistics != null) {
+                            statistics.statementPrepared();
+                        }
+                    }
+                    return invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
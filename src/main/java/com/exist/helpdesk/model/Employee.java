@@ -2,11 +2,18 @@ package com.exist.helpdesk.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "helpdesk.employees")
 @Table(name = "employees")
+@SQLRestriction("deleted = false")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +43,10 @@ public class Employee {
     @JoinColumn(name = "role_id")
     private Role role;
 
+    private boolean deleted;
+
+    private LocalDateTime deletedAt;
+
     @Version
     private Integer version;
 }
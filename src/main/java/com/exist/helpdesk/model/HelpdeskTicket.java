@@ -2,6 +2,7 @@ package com.exist.helpdesk.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.ArrayList;
 
 @Entity
 @Table(name = "tickets")
+@SQLRestriction("deleted = false")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -40,6 +42,12 @@ public class HelpdeskTicket {
 
     private String updatedBy;
 
+    private LocalDateTime resolvedDate;
+
+    private boolean deleted;
+
+    private LocalDateTime deletedAt;
+
     @ElementCollection
     @CollectionTable(name = "ticket_remarks", joinColumns = @JoinColumn(name = "ticket_id"))
     private List<Remark> remarks = new ArrayList<>();
@@ -0,0 +1,39 @@
+package com.exist.helpdesk.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ticket_attachments")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketAttachment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "ticket_id", nullable = false)
+    private HelpdeskTicket ticket;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    private String uploadedBy;
+
+    @Column(nullable = false)
+    private LocalDateTime uploadedAt;
+}
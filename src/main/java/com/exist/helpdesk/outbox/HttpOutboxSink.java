@@ -0,0 +1,59 @@
+package com.exist.helpdesk.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "helpdesk.outbox", name = "sink", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+    private final ObjectMapper objectMapper;
+    private final URI uri;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    public HttpOutboxSink(ObjectMapper objectMapper,
+                          @Value("${helpdesk.outbox.http.url:http://localhost:8089/ticket-events}") URI uri,
+                          @Value("${helpdesk.outbox.http.timeout:5s}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.uri = uri;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(messages)))
+                .build();
+        HttpResponse<Void> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while delivering outbox batch");
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Outbox endpoint " + uri + " answered " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.exist.helpdesk.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(prefix = "helpdesk.outbox", name = "sink", havingValue = "memory", matchIfMissing = true)
+public class MemoryOutboxSink implements OutboxSink {
+    private final BlockingQueue<OutboxMessage> queue;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public MemoryOutboxSink(MeterRegistry meterRegistry,
+                            @Value("${helpdesk.outbox.memory.capacity:10000}") int capacity) {
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        Gauge.builder("helpdesk.outbox.memory.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) throws IOException {
+        lock.lock();
+        try {
+            if (queue.remainingCapacity() < messages.size()) {
+                throw new IOException("In-memory outbox queue is full");
+            }
+            queue.addAll(messages);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<OutboxMessage> drain(int maxMessages) {
+        List<OutboxMessage> drained = new ArrayList<>(Math.min(maxMessages, queue.size()));
+        queue.drainTo(drained, maxMessages);
+        return drained;
+    }
+}
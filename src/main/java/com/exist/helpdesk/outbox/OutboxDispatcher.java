@@ -0,0 +1,121 @@
+package com.exist.helpdesk.outbox;
+
+import com.exist.helpdesk.repository.TicketOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(prefix = "helpdesk.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final TicketOutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Timer deliveryDelay;
+    private final Timer sinkLatency;
+
+    public OutboxDispatcher(TicketOutboxRepository outboxRepository, OutboxSink sink, MeterRegistry meterRegistry,
+                            @Value("${helpdesk.outbox.batch-size:200}") int batchSize,
+                            @Value("${helpdesk.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                            @Value("${helpdesk.outbox.initial-backoff:1s}") Duration initialBackoff,
+                            @Value("${helpdesk.outbox.max-backoff:5m}") Duration maxBackoff,
+                            @Value("${helpdesk.outbox.retention:1d}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+        this.dispatched = meterRegistry.counter("helpdesk.outbox.dispatched", "sink", sink.name());
+        this.failed = meterRegistry.counter("helpdesk.outbox.failed", "sink", sink.name());
+        this.deliveryDelay = Timer.builder("helpdesk.outbox.delivery.delay")
+                .tag("sink", sink.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sinkLatency = Timer.builder("helpdesk.outbox.sink.latency")
+                .tag("sink", sink.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("helpdesk.outbox.lag", lagMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("helpdesk.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${helpdesk.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        for (int run = 0; run < maxBatchesPerRun; run++) {
+            List<OutboxMessage> batch = outboxRepository.findDue(LocalDateTime.now(), batchSize);
+            if (batch.isEmpty() || !deliver(batch) || batch.size() < batchSize) {
+                break;
+            }
+        }
+        LocalDateTime oldest = outboxRepository.findOldestPending();
+        lagMillis.set(oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()) : 0);
+        pending.set(oldest != null ? outboxRepository.countPending() : 0);
+    }
+
+    @Scheduled(fixedDelayString = "${helpdesk.outbox.cleanup-interval:PT1H}",
+            initialDelayString = "${helpdesk.outbox.cleanup-interval:PT1H}")
+    public void purgeDispatched() {
+        int purged = outboxRepository.deleteDispatchedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} dispatched outbox messages", purged);
+        }
+    }
+
+    private boolean deliver(List<OutboxMessage> batch) {
+        List<Long> ids = batch.stream().map(OutboxMessage::id).toList();
+        long start = System.nanoTime();
+        try {
+            sink.deliver(batch);
+        } catch (Exception e) {
+            sinkLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            int attempts = batch.stream().mapToInt(OutboxMessage::attempts).max().orElse(0) + 1;
+            Duration backoff = backoff(attempts);
+            outboxRepository.markFailed(ids, LocalDateTime.now().plus(backoff));
+            failed.increment(batch.size());
+            log.warn("Delivering {} outbox messages to {} failed (attempt {}), retrying in {}",
+                    batch.size(), sink.name(), attempts, backoff, e);
+            return false;
+        }
+        sinkLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.markDispatched(ids, now);
+        dispatched.increment(batch.size());
+        for (OutboxMessage message : batch) {
+            deliveryDelay.record(Duration.between(message.createdAt(), now));
+        }
+        return true;
+    }
+
+    private Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts - 1, 20);
+        Duration backoff = initialBackoff.multipliedBy(multiplier);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
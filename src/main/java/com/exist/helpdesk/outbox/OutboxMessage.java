@@ -0,0 +1,15 @@
+package com.exist.helpdesk.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+public record OutboxMessage(
+        Long id,
+        Long ticketId,
+        String type,
+        @JsonRawValue String payload,
+        LocalDateTime createdAt,
+        int attempts
+) {
+}
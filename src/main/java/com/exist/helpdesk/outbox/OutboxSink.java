@@ -0,0 +1,10 @@
+package com.exist.helpdesk.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface OutboxSink {
+    String name();
+
+    void deliver(List<OutboxMessage> messages) throws IOException;
+}
@@ -0,0 +1,64 @@
+package com.exist.helpdesk.outbox;
+
+import com.exist.helpdesk.event.TicketChangedEvent;
+import com.exist.helpdesk.repository.TicketOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "helpdesk.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TicketOutboxWriter {
+    private final TicketOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public TicketOutboxWriter(TicketOutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onTicketChanged(TicketChangedEvent event) {
+        OutboxMessage message = new OutboxMessage(null, event.ticketId(), event.type().name(), serialize(event),
+                event.occurredAt() != null ? event.occurredAt() : LocalDateTime.now(), 0);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRepository.insert(List.of(message));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<OutboxMessage> pending = (List<OutboxMessage>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<OutboxMessage> buffer = new ArrayList<>();
+            pending = buffer;
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    outboxRepository.insert(buffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TicketOutboxWriter.this);
+                }
+            });
+        }
+        pending.add(message);
+    }
+
+    private String serialize(TicketChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event for ticket " + event.ticketId(), e);
+        }
+    }
+}
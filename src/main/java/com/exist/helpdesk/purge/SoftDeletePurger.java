@@ -0,0 +1,132 @@
+package com.exist.helpdesk.purge;
+
+import com.exist.helpdesk.model.Employee;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+@ConditionalOnProperty(prefix = "helpdesk.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SoftDeletePurger {
+    private static final Logger log = LoggerFactory.getLogger(SoftDeletePurger.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration batchPause;
+    private final String poolName;
+    private final int maxActiveConnections;
+
+    public SoftDeletePurger(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry,
+                            @Value("${helpdesk.purge.retention:7d}") Duration retention,
+                            @Value("${helpdesk.purge.batch-size:200}") int batchSize,
+                            @Value("${helpdesk.purge.max-batches-per-run:50}") int maxBatchesPerRun,
+                            @Value("${helpdesk.purge.batch-pause:250ms}") Duration batchPause,
+                            @Value("${helpdesk.purge.pool-name:helpdesk-primary}") String poolName,
+                            @Value("${helpdesk.purge.max-active-connections:2}") int maxActiveConnections) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.meterRegistry = meterRegistry;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPause = batchPause;
+        this.poolName = poolName;
+        this.maxActiveConnections = maxActiveConnections;
+    }
+
+    @Scheduled(fixedDelayString = "${helpdesk.purge.interval:PT5M}", initialDelayString = "${helpdesk.purge.interval:PT5M}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int tickets = purge("tickets", cutoff, this::purgeTickets);
+        int employees = purge("employees", cutoff, this::purgeEmployees);
+        if (tickets > 0 || employees > 0) {
+            log.info("Purged {} soft-deleted tickets and {} soft-deleted employees", tickets, employees);
+        }
+    }
+
+    private int purge(String table, LocalDateTime cutoff, Function<LocalDateTime, Integer> batch) {
+        int total = 0;
+        for (int run = 0; run < maxBatchesPerRun; run++) {
+            if (!isQuiet()) {
+                meterRegistry.counter("helpdesk.purge.deferred", "table", table).increment();
+                break;
+            }
+            Integer purged = transactionTemplate.execute(status -> batch.apply(cutoff));
+            int count = purged != null ? purged : 0;
+            total += count;
+            meterRegistry.counter("helpdesk.purge.deleted", "table", table).increment(count);
+            if (count < batchSize || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int purgeTickets(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM tickets WHERE deleted = true AND deleted_at < ?"
+                + " ORDER BY deleted_at FETCH FIRST ? ROWS ONLY", Long.class, Timestamp.valueOf(cutoff), batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Object[] args = ids.toArray();
+        String in = placeholders(ids.size());
+        jdbcTemplate.update("DELETE FROM ticket_remarks WHERE ticket_id IN (" + in + ")", args);
+        return jdbcTemplate.update("DELETE FROM tickets WHERE deleted = true AND id IN (" + in + ")", args);
+    }
+
+    private int purgeEmployees(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT e.id FROM employees e WHERE e.deleted = true"
+                        + " AND e.deleted_at < ? AND NOT EXISTS (SELECT 1 FROM tickets t WHERE t.assignee_id = e.id)"
+                        + " ORDER BY e.deleted_at FETCH FIRST ? ROWS ONLY", Long.class,
+                Timestamp.valueOf(cutoff), batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = jdbcTemplate.update("DELETE FROM employees WHERE deleted = true AND id IN ("
+                + placeholders(ids.size()) + ")", ids.toArray());
+        ids.forEach(id -> entityManagerFactory.getCache().evict(Employee.class, id));
+        return deleted;
+    }
+
+    private boolean isQuiet() {
+        Gauge active = meterRegistry.find("hikaricp.connections.active").tag("pool", poolName).gauge();
+        return active == null || active.value() <= maxActiveConnections;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,11 +1,18 @@
 package com.exist.helpdesk.repository;
 
 import com.exist.helpdesk.model.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +35,20 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
     @Query("SELECT e FROM Employee e WHERE e.name = :name AND e.age = :age")
     List<Employee> findByNameAndAge(@Param("name") String name, @Param("age") Integer age);
 
+    @EntityGraph(attributePaths = "role")
+    Page<Employee> findAll(Specification<Employee> spec, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("SELECT e FROM Employee e JOIN FETCH e.role WHERE e.username = :username")
     Optional<Employee> findByUsername(@Param("username") String username);
+
+    @Query("SELECT COUNT(e) > 0 FROM Employee e WHERE e.id = :id AND e.deleted = false")
+    boolean existsActiveById(@Param("id") Long id);
+
+    default Optional<Employee> findActiveById(Long id) {
+        return findById(id).filter(employee -> !employee.isDeleted());
+    }
+
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.role WHERE e.id IN :ids")
+    List<Employee> findAllWithRoleByIdIn(@Param("ids") Collection<Long> ids);
 }
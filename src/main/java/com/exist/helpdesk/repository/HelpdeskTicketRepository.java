@@ -1,13 +1,18 @@
 package com.exist.helpdesk.repository;
 
 import com.exist.helpdesk.model.HelpdeskTicket;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import jakarta.persistence.LockModeType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface HelpdeskTicketRepository extends JpaRepository<HelpdeskTicket, Long>, JpaSpecificationExecutor<HelpdeskTicket> {
     @Query("SELECT t FROM HelpdeskTicket t")
@@ -27,4 +32,21 @@ public interface HelpdeskTicketRepository extends JpaRepository<HelpdeskTicket,
 
     @Query("SELECT t FROM HelpdeskTicket t WHERE t.status = :status AND t.assignee.name = :name")
     List<HelpdeskTicket> findByStatusAndAssigneeName(@Param("status") String status, @Param("name") String name);
+
+    @Query("SELECT DISTINCT t FROM HelpdeskTicket t LEFT JOIN FETCH t.remarks WHERE t.id IN :ids")
+    List<HelpdeskTicket> findAllWithRemarksByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "remarks")
+    Optional<HelpdeskTicket> findById(Long id);
+
+    default Optional<HelpdeskTicket> findActiveById(Long id) {
+        return findById(id).filter(ticket -> !ticket.isDeleted());
+    }
+
+    @Query("SELECT t FROM HelpdeskTicket t WHERE t.id = :id")
+    Optional<HelpdeskTicket> findWithoutRemarksById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM HelpdeskTicket t WHERE t.id = :id")
+    Optional<HelpdeskTicket> findByIdForUpdate(@Param("id") Long id);
 }
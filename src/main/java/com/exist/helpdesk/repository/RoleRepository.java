@@ -4,6 +4,8 @@ import com.exist.helpdesk.model.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -13,6 +15,7 @@ public interface RoleRepository extends JpaRepository<Role, Long>, JpaSpecificat
     @Query("SELECT r FROM Role r")
     List<Role> findAllRoles();
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("SELECT r FROM Role r WHERE r.name = :name")
     List<Role> findByName(@Param("name") String name);
 
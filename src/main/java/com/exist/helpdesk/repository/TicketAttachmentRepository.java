@@ -0,0 +1,32 @@
+package com.exist.helpdesk.repository;
+
+import com.exist.helpdesk.model.TicketAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TicketAttachmentRepository extends JpaRepository<TicketAttachment, Long> {
+    @Query("SELECT a FROM TicketAttachment a JOIN a.ticket t WHERE t.id = :ticketId AND t.deleted = false ORDER BY a.id")
+    List<TicketAttachment> findByTicketId(@Param("ticketId") Long ticketId);
+
+    @Query("SELECT a FROM TicketAttachment a JOIN a.ticket t WHERE a.id = :id AND t.id = :ticketId AND t.deleted = false")
+    Optional<TicketAttachment> findByIdAndTicketId(@Param("id") Long id, @Param("ticketId") Long ticketId);
+
+    @Query("SELECT a FROM TicketAttachment a WHERE a.ticket.id = :ticketId AND a.sha256 = :sha256 ORDER BY a.id")
+    List<TicketAttachment> findByTicketIdAndSha256(@Param("ticketId") Long ticketId, @Param("sha256") String sha256);
+
+    @Query("SELECT COALESCE(SUM(a.size), 0) FROM TicketAttachment a WHERE a.ticket.id = :ticketId")
+    long sumSizeByTicketId(@Param("ticketId") Long ticketId);
+
+    @Query("SELECT COUNT(a) FROM TicketAttachment a WHERE a.ticket.id = :ticketId")
+    long countByTicketId(@Param("ticketId") Long ticketId);
+
+    @Query("SELECT COUNT(a) FROM TicketAttachment a WHERE a.sha256 = :sha256")
+    long countBySha256(@Param("sha256") String sha256);
+
+    @Query("SELECT DISTINCT a.sha256 FROM TicketAttachment a")
+    List<String> findAllSha256();
+}
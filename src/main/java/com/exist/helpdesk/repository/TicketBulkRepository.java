@@ -0,0 +1,115 @@
+package com.exist.helpdesk.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class TicketBulkRepository {
+    private static final int IN_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<TicketState> findForTransition(List<Long> ids, String status, Long assigneeId, Long createdById,
+                                               String targetStatus, int limit, boolean lock) {
+        List<TicketState> states = new ArrayList<>();
+        if (ids == null || ids.isEmpty()) {
+            states.addAll(select(null, status, assigneeId, createdById, targetStatus, limit, lock));
+            return states;
+        }
+        for (List<Long> chunk : chunks(ids)) {
+            states.addAll(select(chunk, status, assigneeId, createdById, targetStatus, limit - states.size(), lock));
+            if (states.size() >= limit) {
+                break;
+            }
+        }
+        return states;
+    }
+
+    public int updateStatus(List<Long> ids, String targetStatus, LocalDateTime updatedDate, String updatedBy,
+                            boolean resolved) {
+        int updated = 0;
+        String resolvedDate = resolved ? "COALESCE(resolved_date, ?)" : "NULL";
+        for (List<Long> chunk : chunks(ids)) {
+            List<Object> args = new ArrayList<>(chunk.size() + 4);
+            args.add(targetStatus);
+            args.add(Timestamp.valueOf(updatedDate));
+            args.add(updatedBy);
+            if (resolved) {
+                args.add(Timestamp.valueOf(updatedDate));
+            }
+            args.addAll(chunk);
+            updated += jdbcTemplate.update("UPDATE tickets SET status = ?, version = COALESCE(version, 0) + 1,"
+                    + " updated_date = ?, updated_by = ?, resolved_date = " + resolvedDate
+                    + " WHERE id IN (" + placeholders(chunk.size()) + ")", args.toArray());
+        }
+        return updated;
+    }
+
+    public void insertRemarks(List<Long> ticketIds, String remark, String addedBy, LocalDateTime addedAt) {
+        Timestamp timestamp = Timestamp.valueOf(addedAt);
+        jdbcTemplate.batchUpdate("INSERT INTO ticket_remarks (ticket_id, remark, added_by, added_at) VALUES (?, ?, ?, ?)",
+                ticketIds, IN_CHUNK_SIZE, (ps, ticketId) -> {
+                    ps.setLong(1, ticketId);
+                    ps.setString(2, remark);
+                    ps.setString(3, addedBy);
+                    ps.setTimestamp(4, timestamp);
+                });
+    }
+
+    private List<TicketState> select(List<Long> ids, String status, Long assigneeId, Long createdById,
+                                     String targetStatus, int limit, boolean lock) {
+        StringBuilder sql = new StringBuilder("SELECT id, status, assignee_id FROM tickets WHERE deleted = false AND status <> ?");
+        List<Object> args = new ArrayList<>();
+        args.add(targetStatus);
+        if (ids != null) {
+            sql.append(" AND id IN (").append(placeholders(ids.size())).append(")");
+            args.addAll(ids);
+        }
+        if (status != null && !status.isBlank()) {
+            sql.append(" AND status = ?");
+            args.add(status);
+        }
+        if (assigneeId != null) {
+            sql.append(" AND assignee_id = ?");
+            args.add(assigneeId);
+        }
+        if (createdById != null) {
+            sql.append(" AND created_by = ?");
+            args.add(createdById.toString());
+        }
+        sql.append(" ORDER BY id FETCH FIRST ? ROWS ONLY");
+        if (lock) {
+            sql.append(" FOR UPDATE");
+        }
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            long assignee = rs.getLong("assignee_id");
+            return new TicketState(rs.getLong("id"), rs.getString("status"), rs.wasNull() ? null : assignee);
+        }, args.toArray());
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += IN_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + IN_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    public record TicketState(Long id, String status, Long assigneeId) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.exist.helpdesk.repository;
+
+import com.exist.helpdesk.outbox.OutboxMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class TicketOutboxRepository {
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getLong("ticket_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(List<OutboxMessage> messages) {
+        jdbcTemplate.batchUpdate("INSERT INTO ticket_outbox (ticket_id, event_type, payload, created_at, next_attempt_at)"
+                + " VALUES (?, ?, ?, ?, ?)", messages, 500, (ps, message) -> {
+            Timestamp createdAt = Timestamp.valueOf(message.createdAt());
+            ps.setLong(1, message.ticketId());
+            ps.setString(2, message.type());
+            ps.setString(3, message.payload());
+            ps.setTimestamp(4, createdAt);
+            ps.setTimestamp(5, createdAt);
+        });
+    }
+
+    public List<OutboxMessage> findDue(LocalDateTime now, int limit) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.query("SELECT o.id, o.ticket_id, o.event_type, o.payload, o.created_at, o.attempts"
+                + " FROM ticket_outbox o WHERE o.dispatched_at IS NULL AND o.next_attempt_at <= ?"
+                + " AND NOT EXISTS (SELECT 1 FROM ticket_outbox p WHERE p.ticket_id = o.ticket_id"
+                + " AND p.dispatched_at IS NULL AND p.id < o.id AND p.next_attempt_at > ?)"
+                + " ORDER BY o.id FETCH FIRST ? ROWS ONLY", MESSAGE_MAPPER, timestamp, timestamp, limit);
+    }
+
+    public void markDispatched(List<Long> ids, LocalDateTime dispatchedAt) {
+        jdbcTemplate.update("UPDATE ticket_outbox SET dispatched_at = ? WHERE id IN (" + placeholders(ids.size()) + ")",
+                arguments(Timestamp.valueOf(dispatchedAt), ids));
+    }
+
+    public void markFailed(List<Long> ids, LocalDateTime nextAttemptAt) {
+        jdbcTemplate.update("UPDATE ticket_outbox SET attempts = attempts + 1, next_attempt_at = ?"
+                + " WHERE id IN (" + placeholders(ids.size()) + ")", arguments(Timestamp.valueOf(nextAttemptAt), ids));
+    }
+
+    public LocalDateTime findOldestPending() {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM ticket_outbox WHERE dispatched_at IS NULL", Timestamp.class);
+        return oldest != null ? oldest.toLocalDateTime() : null;
+    }
+
+    public long countPending() {
+        Long pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ticket_outbox WHERE dispatched_at IS NULL", Long.class);
+        return pending != null ? pending : 0;
+    }
+
+    public int deleteDispatchedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM ticket_outbox WHERE dispatched_at IS NOT NULL AND dispatched_at < ?",
+                Timestamp.valueOf(cutoff));
+    }
+
+    private static Object[] arguments(Object first, List<Long> ids) {
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(first);
+        args.addAll(ids);
+        return args.toArray();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.exist.helpdesk.repository.specification;
+
+import com.exist.helpdesk.model.Employee;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EmployeeSpecifications {
+    private EmployeeSpecifications() {
+    }
+
+    public static Specification<Employee> filter(String name, Integer age, String address, String phone,
+                                                 String employmentStatus, Long roleId) {
+        List<Specification<Employee>> specs = new ArrayList<>();
+        if (name != null && !name.isBlank()) {
+            specs.add((root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
+        }
+        if (age != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("age"), age));
+        }
+        if (address != null && !address.isBlank()) {
+            specs.add((root, query, cb) -> cb.like(cb.lower(root.get("address")), "%" + address.toLowerCase() + "%"));
+        }
+        if (phone != null && !phone.isBlank()) {
+            specs.add((root, query, cb) -> cb.like(cb.lower(root.get("phone")), "%" + phone.toLowerCase() + "%"));
+        }
+        if (employmentStatus != null && !employmentStatus.isBlank()) {
+            specs.add((root, query, cb) -> cb.equal(root.get("employmentStatus"), employmentStatus.toLowerCase()));
+        }
+        if (roleId != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("role").get("id"), roleId));
+        }
+        return specs.stream()
+                .reduce(Specification::and)
+                .orElse((root, query, cb) -> cb.conjunction());
+    }
+}
@@ -0,0 +1,25 @@
+package com.exist.helpdesk.repository.specification;
+
+import com.exist.helpdesk.model.HelpdeskTicket;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HelpdeskTicketSpecifications {
+    private HelpdeskTicketSpecifications() {
+    }
+
+    public static Specification<HelpdeskTicket> filter(String statusFilter, Long assigneeId, Long createdById) {
+        List<Specification<HelpdeskTicket>> specs = new ArrayList<>();
+        if (statusFilter != null && !statusFilter.isBlank())
+            specs.add((root, query, cb) -> cb.equal(root.get("status"), statusFilter));
+        if (assigneeId != null)
+            specs.add((root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId));
+        if (createdById != null)
+            specs.add((root, query, cb) -> cb.equal(root.get("createdBy"), createdById.toString()));
+        return specs.stream()
+                .reduce(Specification::and)
+                .orElse((root, query, cb) -> cb.conjunction());
+    }
+}
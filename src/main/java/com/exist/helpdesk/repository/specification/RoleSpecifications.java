@@ -0,0 +1,17 @@
+package com.exist.helpdesk.repository.specification;
+
+import com.exist.helpdesk.model.Role;
+import org.springframework.data.jpa.domain.Specification;
+
+public class RoleSpecifications {
+    private RoleSpecifications() {
+    }
+
+    public static Specification<Role> filter(String name) {
+        Specification<Role> spec = (root, query, cb) -> cb.conjunction();
+        if (name != null && !name.isBlank()) {
+            spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
+        }
+        return spec;
+    }
+}
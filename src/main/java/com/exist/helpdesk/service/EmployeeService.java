@@ -5,6 +5,10 @@ import com.exist.helpdesk.model.Employee;
 import com.exist.helpdesk.dto.employee.EmployeeCreateRequestDTO;
 import com.exist.helpdesk.dto.employee.EmployeeUpdateRequestDTO;
 import com.exist.helpdesk.dto.PaginatedResponse;
+import com.exist.helpdesk.dto.BatchResponse;
+import com.exist.helpdesk.dto.WriteReceipt;
+
+import java.util.List;
 
 public interface EmployeeService {
 
@@ -14,12 +18,20 @@ public interface EmployeeService {
 
     EmployeeResponseDTO getEmployeeById(Long id);
 
+    BatchResponse<EmployeeResponseDTO> getEmployeesByIds(List<Long> ids);
+
     Employee getEmployeeEntityById(Long id);
 
+    Employee getEmployeeReference(Long id);
+
+    Employee getActiveEmployeeReference(Long id);
+
     EmployeeResponseDTO createEmployee(EmployeeCreateRequestDTO dto);
 
     EmployeeResponseDTO updateEmployee(Long id, EmployeeUpdateRequestDTO request);
 
+    WriteReceipt updateEmployeeMinimal(Long id, EmployeeUpdateRequestDTO request);
+
     void deleteEmployee(Long id);
 
     EmployeeResponseDTO assignRoleToEmployee(Long empId, Long roleId);
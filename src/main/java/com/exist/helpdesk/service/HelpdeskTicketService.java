@@ -4,18 +4,30 @@ import com.exist.helpdesk.dto.*;
 import com.exist.helpdesk.dto.helpdeskticket.*;
 import com.exist.helpdesk.dto.PaginatedResponse;
 
+import java.util.List;
+
 public interface HelpdeskTicketService {
     HelpdeskTicketResponseDTO createTicket(HelpdeskTicketCreateRequestDTO dto);
 
+    WriteReceipt createTicketMinimal(HelpdeskTicketCreateRequestDTO dto);
+
     HelpdeskTicketResponseDTO updateTicket(Long id, HelpdeskTicketUpdateRequestDTO dto);
 
+    WriteReceipt updateTicketMinimal(Long id, HelpdeskTicketUpdateRequestDTO dto);
+
     PaginatedResponse<HelpdeskTicketResponseDTO> getTickets(
             int page, int size, String sortBy, String sortDir, String statusFilter,
             Long assigneeId, Long createdById);
 
     HelpdeskTicketResponseDTO getTicketById(Long id);
 
+    BatchResponse<HelpdeskTicketResponseDTO> getTicketsByIds(List<Long> ids);
+
+    BulkStatusTransitionResponseDTO transitionStatus(BulkStatusTransitionRequestDTO dto);
+
     void deleteTicket(Long id);
 
     RemarkResponseDTO addRemarkToTicket(Long ticketId, RemarkCreateRequestDTO dto);
+
+    List<TicketHistoryEntryDTO> getTicketHistory(Long id);
 }
\ No newline at end of file
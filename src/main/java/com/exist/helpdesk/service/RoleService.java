@@ -22,4 +22,6 @@ public interface RoleService {
     void deleteRole(Long id);
 
     Role getRoleEntityById(Long id);
+
+    Role getRoleReference(Long id);
 }
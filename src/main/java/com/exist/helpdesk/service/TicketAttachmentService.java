@@ -0,0 +1,18 @@
+package com.exist.helpdesk.service;
+
+import com.exist.helpdesk.attachment.AttachmentContent;
+import com.exist.helpdesk.dto.attachment.AttachmentResponseDTO;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface TicketAttachmentService {
+    AttachmentResponseDTO uploadAttachment(Long ticketId, String fileName, String contentType, Long contentLength,
+                                           InputStream content);
+
+    List<AttachmentResponseDTO> getAttachments(Long ticketId);
+
+    AttachmentContent getAttachmentContent(Long ticketId, Long attachmentId);
+
+    void deleteAttachment(Long ticketId, Long attachmentId);
+}
@@ -0,0 +1,9 @@
+package com.exist.helpdesk.service;
+
+import com.exist.helpdesk.dto.report.TicketReportDTO;
+
+import java.time.LocalDate;
+
+public interface TicketReportService {
+    TicketReportDTO getTicketReport(LocalDate from, LocalDate to, String groupBy, String interval);
+}
@@ -2,132 +2,218 @@
 
 package com.exist.helpdesk.service.impl;
 
+import com.exist.helpdesk.cache.ListResultCache;
+import com.exist.helpdesk.config.ReadWriteRoutingDataSource;
 import com.exist.helpdesk.dto.employee.EmployeeResponseDTO;
+import com.exist.helpdesk.event.EmployeeChangedEvent;
 import com.exist.helpdesk.model.Employee;
 import com.exist.helpdesk.repository.EmployeeRepository;
-import com.exist.helpdesk.model.Role;
+import com.exist.helpdesk.repository.specification.EmployeeSpecifications;
 import com.exist.helpdesk.dto.employee.EmployeeCreateRequestDTO;
 import com.exist.helpdesk.dto.employee.EmployeeUpdateRequestDTO;
 import com.exist.helpdesk.mapper.EmployeeMapper;
+import com.exist.helpdesk.dto.BatchResponse;
 import com.exist.helpdesk.dto.PaginatedResponse;
+import com.exist.helpdesk.dto.WriteReceipt;
 import com.exist.helpdesk.service.EmployeeService;
 import com.exist.helpdesk.service.RoleService;
+import com.exist.helpdesk.utils.BatchResponseUtil;
+import com.exist.helpdesk.utils.DataIntegrityUtil;
 import com.exist.helpdesk.utils.PaginatedResponseUtil;
+import com.exist.helpdesk.utils.SingleFlight;
 import com.exist.helpdesk.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import java.util.List;
-import java.util.ArrayList;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final RoleService roleService;
     private final EmployeeMapper employeeMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<Long, EmployeeResponseDTO> employeeReads;
+    private final ListResultCache listCache;
+    private final int batchMaxIds;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, RoleService roleService, EmployeeMapper employeeMapper, PasswordEncoder passwordEncoder) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, RoleService roleService, EmployeeMapper employeeMapper,
+                               PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher,
+                               ListResultCache listCache, PlatformTransactionManager transactionManager,
+                               @Value("${helpdesk.single-flight.timeout:5s}") Duration singleFlightTimeout,
+                               @Value("${helpdesk.batch.max-ids:100}") int batchMaxIds) {
         this.employeeRepository = employeeRepository;
         this.roleService = roleService;
         this.employeeMapper = employeeMapper;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.listCache = listCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.employeeReads = new SingleFlight<>(singleFlightTimeout);
+        this.batchMaxIds = batchMaxIds;
     }
 
     @Override
     public PaginatedResponse<EmployeeResponseDTO> getEmployees(
             int page, int size, String sortBy, String sortDir, String name, Integer age,
             String address, String phone, String employmentStatus, Long roleId) {
-        Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-        Pageable pageable = PageRequest.of(page, size, sort);
-        List<Specification<Employee>> specs = new ArrayList<>();
-        if (name != null && !name.isBlank()) {
-            specs.add((root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
-        }
-        if (age != null) {
-            specs.add((root, query, cb) -> cb.equal(root.get("age"), age));
-        }
-        if (address != null && !address.isBlank()) {
-            specs.add((root, query, cb) -> cb.like(cb.lower(root.get("address")), "%" + address.toLowerCase() + "%"));
-        }
-        if (phone != null && !phone.isBlank()) {
-            specs.add((root, query, cb) -> cb.like(cb.lower(root.get("phone")), "%" + phone.toLowerCase() + "%"));
-        }
-        if (employmentStatus != null && !employmentStatus.isBlank()) {
-            specs.add((root, query, cb) -> cb.equal(root.get("employmentStatus"), employmentStatus.toLowerCase()));
-        }
-        if (roleId != null) {
-            specs.add((root, query, cb) -> cb.equal(root.get("role").get("id"), roleId));
-        }
-        Specification<Employee> spec = specs.stream()
-                .reduce(Specification::and)
-                .orElse((root, query, cb) -> cb.conjunction());
-        Page<Employee> employeePage = employeeRepository.findAll(spec, pageable);
-        Page<EmployeeResponseDTO> dtoPage = employeePage.map(employeeMapper::toResponse);
-        return PaginatedResponseUtil.fromPage(dtoPage);
+        boolean ascending = sortDir.equalsIgnoreCase("asc");
+        EmployeeListKey key = new EmployeeListKey(page, size, sortBy, ascending, name, age, address, phone,
+                employmentStatus, roleId);
+        return listCache.get(key, List.of(ListResultCache.EMPLOYEES), () -> readOnlyTransaction.execute(status -> {
+            Sort sort = ascending ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+            Specification<Employee> spec = EmployeeSpecifications.filter(name, age, address, phone, employmentStatus, roleId);
+            Page<Employee> employeePage = employeeRepository.findAll(spec, pageable);
+            Page<EmployeeResponseDTO> dtoPage = employeePage.map(employeeMapper::toResponse);
+            return PaginatedResponseUtil.fromPage(dtoPage);
+        }));
     }
 
     @Override
     public EmployeeResponseDTO getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee with id " + id + " not found"));
-        return employeeMapper.toResponse(employee);
+        Supplier<EmployeeResponseDTO> load = () -> readOnlyTransaction.execute(status -> {
+            Employee employee = employeeRepository.findActiveById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee with id " + id + " not found"));
+            return employeeMapper.toResponse(employee);
+        });
+        return ReadWriteRoutingDataSource.isPrimaryForced() ? load.get() : employeeReads.execute(id, load);
+    }
+
+    @Override
+    public BatchResponse<EmployeeResponseDTO> getEmployeesByIds(List<Long> ids) {
+        Set<Long> distinctIds = BatchResponseUtil.distinctIds(ids, batchMaxIds);
+        Map<Long, EmployeeResponseDTO> found = readOnlyTransaction.execute(status ->
+                employeeRepository.findAllWithRoleByIdIn(distinctIds).stream()
+                        .collect(Collectors.toMap(Employee::getId, employeeMapper::toResponse)));
+        return BatchResponseUtil.inRequestOrder(ids, found);
     }
 
     @Override
     public Employee getEmployeeEntityById(Long id) {
-        return employeeRepository.findById(id)
+        return employeeRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee with id " + id + " not found"));
     }
 
+    @Override
+    public Employee getEmployeeReference(Long id) {
+        return employeeRepository.getReferenceById(id);
+    }
+
+    @Override
+    public Employee getActiveEmployeeReference(Long id) {
+        if (!employeeRepository.existsActiveById(id)) {
+            throw new ResourceNotFoundException("Employee with id " + id + " not found");
+        }
+        return employeeRepository.getReferenceById(id);
+    }
+
     @Override
     @Transactional
     public EmployeeResponseDTO createEmployee(EmployeeCreateRequestDTO dto) {
         Employee employee = employeeMapper.toEntity(dto);
         employee.setPassword(passwordEncoder.encode(dto.password()));
-        Role role = roleService.getRoleEntityById(dto.roleId());
-        employee.setRole(role);
-        Employee saved = employeeRepository.save(employee);
+        employee.setRole(roleService.getRoleReference(dto.roleId()));
+        Employee saved = withRoleCheck(dto.roleId(), () -> employeeRepository.save(employee));
+        publish(saved, EmployeeChangedEvent.Type.CREATED);
         return employeeMapper.toResponse(saved);
     }
 
     @Override
     @Transactional
     public EmployeeResponseDTO updateEmployee(Long id, EmployeeUpdateRequestDTO request) {
-        Employee emp = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee with id " + id + " not found"));
-        employeeMapper.updateEmployeeFromDto(request, emp);
-        if (request.roleId() != null) {
-            Role role = roleService.getRoleEntityById(request.roleId());
-            emp.setRole(role);
-        }
-        if (request.password() != null) {
-            emp.setPassword(passwordEncoder.encode(request.password()));
-        }
-        Employee saved = employeeRepository.save(emp);
-        return employeeMapper.toResponse(saved);
+        return employeeMapper.toResponse(update(id, request));
+    }
+
+    @Override
+    @Transactional
+    public WriteReceipt updateEmployeeMinimal(Long id, EmployeeUpdateRequestDTO request) {
+        Employee saved = update(id, request);
+        return new WriteReceipt(saved.getId(), null, saved.getVersion());
     }
 
     @Override
     @Transactional
     public void deleteEmployee(Long id) {
-        employeeRepository.deleteById(id);
+        Employee employee = employeeRepository.findActiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee with id " + id + " not found"));
+        String releasedUsername = "deleted-" + id + "-" + employee.getUsername();
+        employee.setUsername(releasedUsername.substring(0, Math.min(releasedUsername.length(), 255)));
+        employee.setDeleted(true);
+        employee.setDeletedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new EmployeeChangedEvent(id, EmployeeChangedEvent.Type.DELETED, null, null));
     }
 
     @Override
     @Transactional
     public EmployeeResponseDTO assignRoleToEmployee(Long empId, Long roleId) {
-        Employee emp = employeeRepository.findById(empId)
+        Employee emp = employeeRepository.findActiveById(empId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee with id " + empId + " not found"));
-        Role role = roleService.getRoleEntityById(roleId);
-        emp.setRole(role);
-        Employee saved = employeeRepository.save(emp);
-        return employeeMapper.toResponse(saved);
+        emp.setRole(roleService.getRoleReference(roleId));
+        withRoleCheck(roleId, () -> {
+            employeeRepository.flush();
+            return emp;
+        });
+        publish(emp, EmployeeChangedEvent.Type.UPDATED);
+        return employeeMapper.toResponse(emp);
+    }
+
+    private Employee update(Long id, EmployeeUpdateRequestDTO request) {
+        Employee emp = employeeRepository.findActiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee with id " + id + " not found"));
+        employeeMapper.updateEmployeeFromDto(request, emp);
+        if (request.roleId() != null) {
+            emp.setRole(roleService.getRoleReference(request.roleId()));
+        }
+        if (request.password() != null) {
+            emp.setPassword(passwordEncoder.encode(request.password()));
+        }
+        withRoleCheck(request.roleId(), () -> {
+            employeeRepository.flush();
+            return emp;
+        });
+        publish(emp, EmployeeChangedEvent.Type.UPDATED);
+        return emp;
+    }
+
+    private Employee withRoleCheck(Long roleId, Supplier<Employee> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            if (roleId != null && DataIntegrityUtil.isViolationOf(e, "fk_employees_role")) {
+                throw new ResourceNotFoundException("Role with id " + roleId + " not found");
+            }
+            throw e;
+        }
+    }
+
+    private void publish(Employee employee, EmployeeChangedEvent.Type type) {
+        Long roleId = employee.getRole() != null ? employee.getRole().getId() : null;
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getId(), type, roleId, employee.getEmploymentStatus()));
+    }
+
+    private record EmployeeListKey(int page, int size, String sortBy, boolean ascending, String name, Integer age,
+                                   String address, String phone, String employmentStatus, Long roleId) {
     }
 }
\ No newline at end of file
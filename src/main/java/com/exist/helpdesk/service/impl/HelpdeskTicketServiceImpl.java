@@ -1,114 +1,340 @@
 package com.exist.helpdesk.service.impl;
 
+import com.exist.helpdesk.assignment.AssignmentBalancer;
+import com.exist.helpdesk.audit.TicketAuditLog;
+import com.exist.helpdesk.audit.TicketAuditRecord;
+import com.exist.helpdesk.cache.ListResultCache;
+import com.exist.helpdesk.config.ReadWriteRoutingDataSource;
 import com.exist.helpdesk.dto.*;
 import com.exist.helpdesk.dto.helpdeskticket.*;
+import com.exist.helpdesk.event.TicketChangedEvent;
 import com.exist.helpdesk.model.HelpdeskTicket;
 import com.exist.helpdesk.model.Remark;
 import com.exist.helpdesk.mapper.HelpdeskTicketMapper;
 import com.exist.helpdesk.repository.HelpdeskTicketRepository;
+import com.exist.helpdesk.repository.TicketBulkRepository;
+import com.exist.helpdesk.repository.specification.HelpdeskTicketSpecifications;
 import com.exist.helpdesk.service.HelpdeskTicketService;
 import com.exist.helpdesk.service.EmployeeService;
+import com.exist.helpdesk.utils.BatchResponseUtil;
+import com.exist.helpdesk.utils.DataIntegrityUtil;
 import com.exist.helpdesk.utils.PaginatedResponseUtil;
+import com.exist.helpdesk.utils.SecurityUtils;
+import com.exist.helpdesk.utils.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
 import com.exist.helpdesk.dto.PaginatedResponse;
+import com.exist.helpdesk.exception.InvalidRequestException;
 import com.exist.helpdesk.exception.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 public class HelpdeskTicketServiceImpl implements HelpdeskTicketService {
     private final HelpdeskTicketRepository ticketRepository;
+    private final TicketBulkRepository ticketBulkRepository;
     private final EmployeeService employeeService;
     private final HelpdeskTicketMapper ticketMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssignmentBalancer assignmentBalancer;
+    private final TicketAuditLog auditLog;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<Long, HelpdeskTicketResponseDTO> ticketReads;
+    private final ListResultCache listCache;
+    private final int batchMaxIds;
+    private final Set<String> resolvedStatuses;
+    private final int bulkMaxTickets;
 
-    public HelpdeskTicketServiceImpl(HelpdeskTicketRepository ticketRepository, EmployeeService employeeService, HelpdeskTicketMapper ticketMapper) {
+    public HelpdeskTicketServiceImpl(HelpdeskTicketRepository ticketRepository, TicketBulkRepository ticketBulkRepository,
+                                     EmployeeService employeeService,
+                                     HelpdeskTicketMapper ticketMapper, ApplicationEventPublisher eventPublisher,
+                                     AssignmentBalancer assignmentBalancer, TicketAuditLog auditLog,
+                                     ListResultCache listCache, PlatformTransactionManager transactionManager,
+                                     @Value("${helpdesk.single-flight.timeout:5s}") Duration singleFlightTimeout,
+                                     @Value("${helpdesk.batch.max-ids:100}") int batchMaxIds,
+                                     @Value("${helpdesk.tickets.resolved-statuses:resolved,closed}") Set<String> resolvedStatuses,
+                                     @Value("${helpdesk.bulk.max-tickets:5000}") int bulkMaxTickets) {
         this.ticketRepository = ticketRepository;
+        this.ticketBulkRepository = ticketBulkRepository;
         this.employeeService = employeeService;
         this.ticketMapper = ticketMapper;
+        this.eventPublisher = eventPublisher;
+        this.assignmentBalancer = assignmentBalancer;
+        this.auditLog = auditLog;
+        this.listCache = listCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ticketReads = new SingleFlight<>(singleFlightTimeout);
+        this.batchMaxIds = batchMaxIds;
+        this.resolvedStatuses = Set.copyOf(resolvedStatuses);
+        this.bulkMaxTickets = bulkMaxTickets;
     }
 
     @Override
     @Transactional
     public HelpdeskTicketResponseDTO createTicket(HelpdeskTicketCreateRequestDTO dto) {
-        HelpdeskTicket ticket = ticketMapper.toEntity(dto);
-        ticket.setAssignee(employeeService.getEmployeeEntityById(dto.assigneeId()));
-        ticket.setCreatedDate(LocalDateTime.now());
-        ticket.setUpdatedDate(LocalDateTime.now());
-        ticket.setStatus((dto.filed() != null && !dto.filed()) ? "draft" : "filed");
-        ticket.setRemarks(new ArrayList<>());
-        ticket.setTicketNumber("EXIST-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase());
-        HelpdeskTicket saved = ticketRepository.save(ticket);
-        return ticketMapper.toResponse(saved);
+        return ticketMapper.toResponse(create(dto));
+    }
+
+    @Override
+    @Transactional
+    public WriteReceipt createTicketMinimal(HelpdeskTicketCreateRequestDTO dto) {
+        return receipt(create(dto));
     }
 
     @Override
     @Transactional
     public HelpdeskTicketResponseDTO updateTicket(Long id, HelpdeskTicketUpdateRequestDTO dto) {
-        HelpdeskTicket ticket = ticketRepository.findById(id)
+        HelpdeskTicket ticket = ticketRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket with id " + id + " not found"));
-        ticketMapper.updateEntityFromDto(dto, ticket);
-        if (dto.assigneeId() != null) {
-            ticket.setAssignee(employeeService.getEmployeeEntityById(dto.assigneeId()));
-        }
-        ticket.setUpdatedDate(LocalDateTime.now());
-        HelpdeskTicket saved = ticketRepository.save(ticket);
-        return ticketMapper.toResponse(saved);
+        return ticketMapper.toResponse(update(ticket, dto));
+    }
+
+    @Override
+    @Transactional
+    public WriteReceipt updateTicketMinimal(Long id, HelpdeskTicketUpdateRequestDTO dto) {
+        HelpdeskTicket ticket = ticketRepository.findWithoutRemarksById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket with id " + id + " not found"));
+        return receipt(update(ticket, dto));
     }
 
     @Override
     public PaginatedResponse<HelpdeskTicketResponseDTO> getTickets(int page, int size, String sortBy, String sortDir, String statusFilter, Long assigneeId, Long createdById) {
-        Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-        Pageable pageable = PageRequest.of(page, size, sort);
-        List<Specification<HelpdeskTicket>> specs = new ArrayList<>();
-        if (statusFilter != null && !statusFilter.isBlank())
-            specs.add((root, query, cb) -> cb.equal(root.get("status"), statusFilter));
-        if (assigneeId != null)
-            specs.add((root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId));
-        if (createdById != null)
-            specs.add((root, query, cb) -> cb.equal(root.get("createdBy"), createdById.toString()));
-        Specification<HelpdeskTicket> spec = specs.stream()
-                .reduce(Specification::and)
-                .orElse((root, query, cb) -> cb.conjunction());
-        Page<HelpdeskTicket> pageResult = ticketRepository.findAll(spec, pageable);
-        Page<HelpdeskTicketResponseDTO> dtoPage = pageResult.map(ticketMapper::toResponse);
-        return PaginatedResponseUtil.fromPage(dtoPage);
+        boolean ascending = sortDir.equalsIgnoreCase("asc");
+        String status = statusFilter != null && !statusFilter.isBlank() ? statusFilter : null;
+        TicketListKey key = new TicketListKey(page, size, sortBy, ascending, status, assigneeId, createdById);
+        List<String> scopes = assigneeId != null ? List.of(ListResultCache.ticketAssigneeScope(assigneeId))
+                : status != null ? List.of(ListResultCache.ticketStatusScope(status))
+                : List.of(ListResultCache.TICKETS);
+        return listCache.get(key, scopes, () -> readOnlyTransaction.execute(transaction -> {
+            Sort sort = ascending ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+            Specification<HelpdeskTicket> spec = HelpdeskTicketSpecifications.filter(status, assigneeId, createdById);
+            Page<HelpdeskTicket> pageResult = ticketRepository.findAll(spec, pageable);
+            Page<HelpdeskTicketResponseDTO> dtoPage = pageResult.map(ticketMapper::toResponse);
+            return PaginatedResponseUtil.fromPage(dtoPage);
+        }));
     }
 
     @Override
     public HelpdeskTicketResponseDTO getTicketById(Long id) {
-        HelpdeskTicket ticket = ticketRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Ticket with id " + id + " not found"));
-        return ticketMapper.toResponse(ticket);
+        Supplier<HelpdeskTicketResponseDTO> load = () -> readOnlyTransaction.execute(status -> {
+            HelpdeskTicket ticket = ticketRepository.findActiveById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Ticket with id " + id + " not found"));
+            return ticketMapper.toResponse(ticket);
+        });
+        return ReadWriteRoutingDataSource.isPrimaryForced() ? load.get() : ticketReads.execute(id, load);
+    }
+
+    @Override
+    public BatchResponse<HelpdeskTicketResponseDTO> getTicketsByIds(List<Long> ids) {
+        Set<Long> distinctIds = BatchResponseUtil.distinctIds(ids, batchMaxIds);
+        Map<Long, HelpdeskTicketResponseDTO> found = readOnlyTransaction.execute(status ->
+                ticketRepository.findAllWithRemarksByIdIn(distinctIds).stream()
+                        .collect(Collectors.toMap(HelpdeskTicket::getId, ticketMapper::toResponse)));
+        return BatchResponseUtil.inRequestOrder(ids, found);
+    }
+
+    @Override
+    @Transactional
+    public BulkStatusTransitionResponseDTO transitionStatus(BulkStatusTransitionRequestDTO dto) {
+        List<Long> ids = dto.ids() != null ? dto.ids().stream().filter(Objects::nonNull).distinct().toList() : List.of();
+        boolean filtered = (dto.status() != null && !dto.status().isBlank()) || dto.assigneeId() != null
+                || dto.createdById() != null;
+        if (ids.isEmpty() && !filtered) {
+            throw new InvalidRequestException("Provide ids or at least one of status, assigneeId or createdById");
+        }
+        if (ids.size() > bulkMaxTickets) {
+            throw new InvalidRequestException("At most " + bulkMaxTickets + " tickets can be transitioned at once");
+        }
+        boolean dryRun = Boolean.TRUE.equals(dto.dryRun());
+        List<TicketBulkRepository.TicketState> tickets = ticketBulkRepository.findForTransition(ids, dto.status(),
+                dto.assigneeId(), dto.createdById(), dto.targetStatus(), bulkMaxTickets + 1, !dryRun);
+        if (tickets.size() > bulkMaxTickets) {
+            throw new InvalidRequestException("More than " + bulkMaxTickets + " tickets match; narrow the filters");
+        }
+        if (dryRun || tickets.isEmpty()) {
+            return new BulkStatusTransitionResponseDTO(dto.targetStatus(), tickets.size(), dryRun);
+        }
+        List<Long> ticketIds = tickets.stream().map(TicketBulkRepository.TicketState::id).toList();
+        LocalDateTime now = LocalDateTime.now();
+        String actor = SecurityUtils.currentUsername();
+        int updated = ticketBulkRepository.updateStatus(ticketIds, dto.targetStatus(), now, actor,
+                resolvedStatuses.contains(dto.targetStatus()));
+        boolean withRemark = dto.remark() != null && !dto.remark().isBlank();
+        if (withRemark) {
+            ticketBulkRepository.insertRemarks(ticketIds, dto.remark(), actor, now);
+        }
+        for (TicketBulkRepository.TicketState ticket : tickets) {
+            eventPublisher.publishEvent(new TicketChangedEvent(ticket.id(), TicketChangedEvent.Type.UPDATED,
+                    dto.targetStatus(), ticket.status(), ticket.assigneeId(), ticket.assigneeId(), now));
+            List<TicketAuditRecord.FieldChange> changes = new ArrayList<>(2);
+            changes.add(new TicketAuditRecord.FieldChange(TicketAuditRecord.Field.STATUS, ticket.status(), dto.targetStatus()));
+            if (withRemark) {
+                changes.add(new TicketAuditRecord.FieldChange(TicketAuditRecord.Field.REMARK, null, dto.remark()));
+            }
+            audit(ticket.id(), TicketAuditRecord.Action.UPDATED, actor, changes);
+        }
+        return new BulkStatusTransitionResponseDTO(dto.targetStatus(), updated, false);
     }
 
     @Override
     @Transactional
     public void deleteTicket(Long id) {
-        if (!ticketRepository.existsById(id)) {
+        HelpdeskTicket ticket = ticketRepository.findWithoutRemarksById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket with id " + id + " not found"));
+        LocalDateTime now = LocalDateTime.now();
+        ticket.setDeleted(true);
+        ticket.setDeletedAt(now);
+        eventPublisher.publishEvent(new TicketChangedEvent(id, TicketChangedEvent.Type.DELETED, null,
+                ticket.getStatus(), null, assigneeId(ticket), now));
+        audit(id, TicketAuditRecord.Action.DELETED, null, List.of());
+    }
+
+    @Override
+    public List<TicketHistoryEntryDTO> getTicketHistory(Long id) {
+        List<TicketAuditRecord> records = auditLog.history(id);
+        if (records.isEmpty() && !ticketRepository.existsById(id)) {
             throw new ResourceNotFoundException("Ticket with id " + id + " not found");
         }
-        ticketRepository.deleteById(id);
+        return records.stream()
+                .map(record -> new TicketHistoryEntryDTO(
+                        LocalDateTime.ofInstant(record.occurredAt(), ZoneId.systemDefault()),
+                        record.actor(),
+                        record.action().name(),
+                        record.changes().stream()
+                                .map(change -> new TicketHistoryEntryDTO.FieldChange(
+                                        change.field().name().toLowerCase(), change.oldValue(), change.newValue()))
+                                .toList()))
+                .toList();
     }
 
     @Override
     @Transactional
     public RemarkResponseDTO addRemarkToTicket(Long ticketId, RemarkCreateRequestDTO dto) {
-        HelpdeskTicket ticket = ticketRepository.findById(ticketId)
+        HelpdeskTicket ticket = ticketRepository.findWithoutRemarksById(ticketId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket with id " + ticketId + " not found"));
         Remark remark = ticketMapper.toEntity(dto);
         remark.setAddedAt(LocalDateTime.now());
-        ticket.getRemarks().add(remark);
-        ticket.setUpdatedDate(LocalDateTime.now());
-        ticketRepository.save(ticket);
+        ticket.setUpdatedDate(remark.getAddedAt());
+        ticketBulkRepository.insertRemarks(List.of(ticketId), remark.getRemark(), remark.getAddedBy(), remark.getAddedAt());
+        publish(ticket, TicketChangedEvent.Type.REMARK_ADDED, ticket.getStatus(), assigneeId(ticket));
+        audit(ticketId, TicketAuditRecord.Action.REMARK_ADDED, remark.getAddedBy(),
+                List.of(new TicketAuditRecord.FieldChange(TicketAuditRecord.Field.REMARK, null, remark.getRemark())));
         return ticketMapper.remarkToDto(remark);
     }
+
+    private HelpdeskTicket create(HelpdeskTicketCreateRequestDTO dto) {
+        HelpdeskTicket ticket = ticketMapper.toEntity(dto);
+        Long assigneeId = dto.assigneeId() != null ? dto.assigneeId() : assignmentBalancer.reserve(dto.assigneeRoleId());
+        ticket.setAssignee(dto.assigneeId() != null ? employeeService.getActiveEmployeeReference(assigneeId)
+                : employeeService.getEmployeeReference(assigneeId));
+        ticket.setCreatedDate(LocalDateTime.now());
+        ticket.setUpdatedDate(LocalDateTime.now());
+        ticket.setStatus((dto.filed() != null && !dto.filed()) ? "draft" : "filed");
+        ticket.setRemarks(new ArrayList<>());
+        ticket.setTicketNumber("EXIST-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase());
+        HelpdeskTicket saved;
+        try {
+            saved = ticketRepository.save(ticket);
+        } catch (DataIntegrityViolationException e) {
+            if (DataIntegrityUtil.isViolationOf(e, "fk_tickets_assignee")) {
+                throw new ResourceNotFoundException("Employee with id " + assigneeId + " not found");
+            }
+            throw e;
+        }
+        publish(saved, TicketChangedEvent.Type.CREATED, null, null);
+        List<TicketAuditRecord.FieldChange> changes = new ArrayList<>();
+        addChange(changes, TicketAuditRecord.Field.TITLE, null, saved.getTitle());
+        addChange(changes, TicketAuditRecord.Field.BODY, null, saved.getBody());
+        addChange(changes, TicketAuditRecord.Field.STATUS, null, saved.getStatus());
+        addChange(changes, TicketAuditRecord.Field.ASSIGNEE, null, assigneeId(saved));
+        audit(saved.getId(), TicketAuditRecord.Action.CREATED, saved.getCreatedBy(), changes);
+        return saved;
+    }
+
+    private HelpdeskTicket update(HelpdeskTicket ticket, HelpdeskTicketUpdateRequestDTO dto) {
+        String previousTitle = ticket.getTitle();
+        String previousBody = ticket.getBody();
+        String previousStatus = ticket.getStatus();
+        Long previousAssigneeId = assigneeId(ticket);
+        ticketMapper.updateEntityFromDto(dto, ticket);
+        if (dto.assigneeId() != null) {
+            ticket.setAssignee(employeeService.getEmployeeEntityById(dto.assigneeId()));
+        }
+        ticket.setUpdatedDate(LocalDateTime.now());
+        stampResolution(ticket);
+        publish(ticket, TicketChangedEvent.Type.UPDATED, previousStatus, previousAssigneeId);
+        List<TicketAuditRecord.FieldChange> changes = new ArrayList<>();
+        addChange(changes, TicketAuditRecord.Field.TITLE, previousTitle, ticket.getTitle());
+        addChange(changes, TicketAuditRecord.Field.BODY, previousBody, ticket.getBody());
+        addChange(changes, TicketAuditRecord.Field.STATUS, previousStatus, ticket.getStatus());
+        addChange(changes, TicketAuditRecord.Field.ASSIGNEE, previousAssigneeId, assigneeId(ticket));
+        if (!changes.isEmpty()) {
+            audit(ticket.getId(), TicketAuditRecord.Action.UPDATED, dto.updatedBy(), changes);
+        }
+        return ticket;
+    }
+
+    private WriteReceipt receipt(HelpdeskTicket ticket) {
+        ticketRepository.flush();
+        return new WriteReceipt(ticket.getId(), ticket.getTicketNumber(), ticket.getVersion());
+    }
+
+    private void audit(Long ticketId, TicketAuditRecord.Action action, String fallbackActor,
+                       List<TicketAuditRecord.FieldChange> changes) {
+        String actor = SecurityUtils.currentUsername();
+        auditLog.record(new TicketAuditRecord(ticketId, Instant.now(), action, actor != null ? actor : fallbackActor, changes));
+    }
+
+    private static void addChange(List<TicketAuditRecord.FieldChange> changes, TicketAuditRecord.Field field,
+                                  Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.add(new TicketAuditRecord.FieldChange(field, Objects.toString(oldValue, null),
+                    Objects.toString(newValue, null)));
+        }
+    }
+
+    private void publish(HelpdeskTicket ticket, TicketChangedEvent.Type type, String previousStatus,
+                         Long previousAssigneeId) {
+        eventPublisher.publishEvent(new TicketChangedEvent(ticket.getId(), type, ticket.getStatus(), previousStatus,
+                assigneeId(ticket), previousAssigneeId, ticket.getUpdatedDate()));
+    }
+
+    private void stampResolution(HelpdeskTicket ticket) {
+        if (ticket.getStatus() == null || !resolvedStatuses.contains(ticket.getStatus())) {
+            ticket.setResolvedDate(null);
+        } else if (ticket.getResolvedDate() == null) {
+            ticket.setResolvedDate(ticket.getUpdatedDate());
+        }
+    }
+
+    private static Long assigneeId(HelpdeskTicket ticket) {
+        return ticket.getAssignee() != null ? ticket.getAssignee().getId() : null;
+    }
+
+    private record TicketListKey(int page, int size, String sortBy, boolean ascending, String status,
+                                 Long assigneeId, Long createdById) {
+    }
 }
\ No newline at end of file
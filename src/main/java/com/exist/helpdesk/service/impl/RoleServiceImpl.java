@@ -2,45 +2,62 @@
 
 package com.exist.helpdesk.service.impl;
 
+import com.exist.helpdesk.cache.ListResultCache;
 import com.exist.helpdesk.dto.PaginatedResponse;
 import com.exist.helpdesk.dto.role.RoleResponseDTO;
 import com.exist.helpdesk.dto.role.RoleCreateRequestDTO;
 import com.exist.helpdesk.dto.role.RoleUpdateRequestDTO;
 import com.exist.helpdesk.model.Role;
 import com.exist.helpdesk.repository.RoleRepository;
+import com.exist.helpdesk.repository.specification.RoleSpecifications;
 import com.exist.helpdesk.mapper.RoleMapper;
 import com.exist.helpdesk.service.RoleService;
 import com.exist.helpdesk.utils.PaginatedResponseUtil;
+import com.exist.helpdesk.event.RoleChangedEvent;
 import com.exist.helpdesk.exception.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
 @Service
 public class RoleServiceImpl implements RoleService {
+    private static final String ALL_ROLES_KEY = "roles:all";
+
     private final RoleRepository roleRepository;
     private final RoleMapper roleMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ListResultCache listCache;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public RoleServiceImpl(RoleRepository roleRepository, RoleMapper roleMapper) {
+    public RoleServiceImpl(RoleRepository roleRepository, RoleMapper roleMapper, ApplicationEventPublisher eventPublisher,
+                           ListResultCache listCache, PlatformTransactionManager transactionManager) {
         this.roleRepository = roleRepository;
         this.roleMapper = roleMapper;
+        this.eventPublisher = eventPublisher;
+        this.listCache = listCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
     public List<RoleResponseDTO> getAllRoles() {
-        List<Role> roles = roleRepository.findAll();
-        return roles.stream()
-                .map(roleMapper::toResponse)
-                .toList();
+        return listCache.get(ALL_ROLES_KEY, List.of(ListResultCache.ROLES), () -> readOnlyTransaction.execute(status ->
+                roleRepository.findAll().stream()
+                        .map(roleMapper::toResponse)
+                        .toList()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public RoleResponseDTO getRoleById(Long id) {
         Role role = roleRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Role with id " + id + " not found"));
@@ -49,15 +66,16 @@ public class RoleServiceImpl implements RoleService {
 
     @Override
     public PaginatedResponse<RoleResponseDTO> getRoles(int page, int size, String sortBy, String sortDir, String name) {
-        Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Specification<Role> spec = (root, query, cb) -> cb.conjunction();
-        if (name != null && !name.isBlank()) {
-            spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
-        }
-        Page<Role> rolePage = roleRepository.findAll(spec, pageable);
-        Page<RoleResponseDTO> dtoPage = rolePage.map(roleMapper::toResponse);
-        return PaginatedResponseUtil.fromPage(dtoPage);
+        boolean ascending = sortDir.equalsIgnoreCase("asc");
+        RoleListKey key = new RoleListKey(page, size, sortBy, ascending, name);
+        return listCache.get(key, List.of(ListResultCache.ROLES), () -> readOnlyTransaction.execute(status -> {
+            Sort sort = ascending ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+            Specification<Role> spec = RoleSpecifications.filter(name);
+            Page<Role> rolePage = roleRepository.findAll(spec, pageable);
+            Page<RoleResponseDTO> dtoPage = rolePage.map(roleMapper::toResponse);
+            return PaginatedResponseUtil.fromPage(dtoPage);
+        }));
     }
 
     @Override
@@ -65,6 +83,7 @@ public class RoleServiceImpl implements RoleService {
     public RoleResponseDTO createRole(RoleCreateRequestDTO request) {
         Role role = roleMapper.toEntity(request);
         Role saved = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(saved.getId(), RoleChangedEvent.Type.CREATED));
         return roleMapper.toResponse(saved);
     }
 
@@ -75,6 +94,7 @@ public class RoleServiceImpl implements RoleService {
                 .orElseThrow(() -> new ResourceNotFoundException("Role with id " + id + " not found"));
         roleMapper.updateRoleFromDto(request, role);
         Role saved = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(saved.getId(), RoleChangedEvent.Type.UPDATED));
         return roleMapper.toResponse(saved);
     }
 
@@ -82,6 +102,7 @@ public class RoleServiceImpl implements RoleService {
     @Transactional
     public void deleteRole(Long id) {
         roleRepository.deleteById(id);
+        eventPublisher.publishEvent(new RoleChangedEvent(id, RoleChangedEvent.Type.DELETED));
     }
 
     @Override
@@ -89,4 +110,12 @@ public class RoleServiceImpl implements RoleService {
         return roleRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Role with id " + id + " not found"));
     }
+
+    @Override
+    public Role getRoleReference(Long id) {
+        return roleRepository.getReferenceById(id);
+    }
+
+    private record RoleListKey(int page, int size, String sortBy, boolean ascending, String name) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.exist.helpdesk.service.impl;
+
+import com.exist.helpdesk.attachment.AttachmentContent;
+import com.exist.helpdesk.attachment.AttachmentStore;
+import com.exist.helpdesk.dto.attachment.AttachmentResponseDTO;
+import com.exist.helpdesk.exception.AttachmentQuotaExceededException;
+import com.exist.helpdesk.exception.InvalidRequestException;
+import com.exist.helpdesk.exception.ResourceNotFoundException;
+import com.exist.helpdesk.mapper.TicketAttachmentMapper;
+import com.exist.helpdesk.model.HelpdeskTicket;
+import com.exist.helpdesk.model.TicketAttachment;
+import com.exist.helpdesk.repository.HelpdeskTicketRepository;
+import com.exist.helpdesk.repository.TicketAttachmentRepository;
+import com.exist.helpdesk.service.TicketAttachmentService;
+import com.exist.helpdesk.utils.SecurityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+@Service
+public class TicketAttachmentServiceImpl implements TicketAttachmentService {
+    private static final Logger log = LoggerFactory.getLogger(TicketAttachmentServiceImpl.class);
+
+    private final TicketAttachmentRepository attachmentRepository;
+    private final HelpdeskTicketRepository ticketRepository;
+    private final TicketAttachmentMapper attachmentMapper;
+    private final AttachmentStore attachmentStore;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long maxFileSize;
+    private final long maxTicketSize;
+    private final int maxPerTicket;
+    private final Duration orphanGracePeriod;
+
+    public TicketAttachmentServiceImpl(TicketAttachmentRepository attachmentRepository,
+                                       HelpdeskTicketRepository ticketRepository,
+                                       TicketAttachmentMapper attachmentMapper, AttachmentStore attachmentStore,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${helpdesk.attachments.max-file-size:25MB}") DataSize maxFileSize,
+                                       @Value("${helpdesk.attachments.max-ticket-size:100MB}") DataSize maxTicketSize,
+                                       @Value("${helpdesk.attachments.max-per-ticket:20}") int maxPerTicket,
+                                       @Value("${helpdesk.attachments.orphan-grace-period:1h}") Duration orphanGracePeriod) {
+        this.attachmentRepository = attachmentRepository;
+        this.ticketRepository = ticketRepository;
+        this.attachmentMapper = attachmentMapper;
+        this.attachmentStore = attachmentStore;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxTicketSize = maxTicketSize.toBytes();
+        this.maxPerTicket = maxPerTicket;
+        this.orphanGracePeriod = orphanGracePeriod;
+    }
+
+    @Override
+    public AttachmentResponseDTO uploadAttachment(Long ticketId, String fileName, String contentType,
+                                                  Long contentLength, InputStream content) {
+        String name = sanitizeFileName(fileName);
+        String type = normalizeContentType(contentType);
+        long available = readOnlyTransaction.execute(status -> {
+            if (!ticketRepository.existsById(ticketId)) {
+                throw new ResourceNotFoundException("Ticket with id " + ticketId + " not found");
+            }
+            return Math.min(maxFileSize, maxTicketSize - attachmentRepository.sumSizeByTicketId(ticketId));
+        });
+        if (contentLength != null && contentLength > available) {
+            throw new AttachmentQuotaExceededException(
+                    "Attachment exceeds the " + Math.max(available, 0) + " bytes available for this ticket");
+        }
+        AttachmentStore.StagedBlob staged = attachmentStore.stage(content, Math.max(available, 0));
+        return attachmentStore.commit(staged, () -> transaction.execute(status -> {
+            HelpdeskTicket ticket = ticketRepository.findByIdForUpdate(ticketId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Ticket with id " + ticketId + " not found"));
+            List<TicketAttachment> duplicates = attachmentRepository.findByTicketIdAndSha256(ticketId, staged.sha256());
+            if (!duplicates.isEmpty()) {
+                return attachmentMapper.toResponse(duplicates.get(0));
+            }
+            if (attachmentRepository.countByTicketId(ticketId) >= maxPerTicket) {
+                throw new AttachmentQuotaExceededException(
+                        "Ticket " + ticketId + " already has the maximum of " + maxPerTicket + " attachments");
+            }
+            if (attachmentRepository.sumSizeByTicketId(ticketId) + staged.size() > maxTicketSize) {
+                throw new AttachmentQuotaExceededException(
+                        "Attachment exceeds the " + maxTicketSize + " bytes allowed per ticket");
+            }
+            TicketAttachment attachment = TicketAttachment.builder()
+                    .ticket(ticket)
+                    .fileName(name)
+                    .contentType(type)
+                    .size(staged.size())
+                    .sha256(staged.sha256())
+                    .uploadedBy(SecurityUtils.currentUsername())
+                    .uploadedAt(LocalDateTime.now())
+                    .build();
+            return attachmentMapper.toResponse(attachmentRepository.save(attachment));
+        }));
+    }
+
+    @Override
+    public List<AttachmentResponseDTO> getAttachments(Long ticketId) {
+        return readOnlyTransaction.execute(status -> {
+            if (!ticketRepository.existsById(ticketId)) {
+                throw new ResourceNotFoundException("Ticket with id " + ticketId + " not found");
+            }
+            return attachmentRepository.findByTicketId(ticketId).stream()
+                    .map(attachmentMapper::toResponse)
+                    .toList();
+        });
+    }
+
+    @Override
+    public AttachmentContent getAttachmentContent(Long ticketId, Long attachmentId) {
+        TicketAttachment attachment = readOnlyTransaction.execute(status -> findAttachment(ticketId, attachmentId));
+        return new AttachmentContent(attachment.getFileName(), attachment.getContentType(), attachment.getSize(),
+                attachment.getSha256(), attachmentStore.path(attachment.getSha256()));
+    }
+
+    @Override
+    public void deleteAttachment(Long ticketId, Long attachmentId) {
+        String sha256 = transaction.execute(status -> {
+            TicketAttachment attachment = findAttachment(ticketId, attachmentId);
+            attachmentRepository.delete(attachment);
+            return attachment.getSha256();
+        });
+        attachmentStore.deleteIfUnreferenced(sha256, digest -> attachmentRepository.countBySha256(digest) > 0);
+    }
+
+    @Scheduled(fixedDelayString = "${helpdesk.attachments.sweep-interval:PT6H}",
+            initialDelayString = "${helpdesk.attachments.sweep-interval:PT6H}")
+    public void purgeOrphans() {
+        int purged = attachmentStore.purgeOrphans(new HashSet<>(attachmentRepository.findAllSha256()),
+                digest -> attachmentRepository.countBySha256(digest) > 0, orphanGracePeriod);
+        if (purged > 0) {
+            log.info("Purged {} orphaned attachment files", purged);
+        }
+    }
+
+    private TicketAttachment findAttachment(Long ticketId, Long attachmentId) {
+        return attachmentRepository.findByIdAndTicketId(attachmentId, ticketId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Attachment with id " + attachmentId + " not found on ticket " + ticketId));
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new InvalidRequestException("fileName is required");
+        }
+        String normalized = fileName.replace('\\', '/');
+        String name = normalized.substring(normalized.lastIndexOf('/') + 1).strip();
+        if (name.isEmpty() || name.equals(".") || name.equals("..") || name.length() > 255) {
+            throw new InvalidRequestException("fileName must be a plain file name of at most 255 characters");
+        }
+        return name;
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid content type " + contentType);
+        }
+        if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        if (MediaType.MULTIPART_FORM_DATA.includes(mediaType)) {
+            throw new InvalidRequestException("Upload the raw file as the request body instead of multipart/form-data");
+        }
+        return mediaType.toString();
+    }
+}
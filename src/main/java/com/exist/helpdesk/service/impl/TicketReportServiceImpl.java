@@ -0,0 +1,377 @@
+package com.exist.helpdesk.service.impl;
+
+import com.exist.helpdesk.dto.report.TicketReportDTO;
+import com.exist.helpdesk.event.EmployeeChangedEvent;
+import com.exist.helpdesk.event.TicketChangedEvent;
+import com.exist.helpdesk.exception.InvalidRequestException;
+import com.exist.helpdesk.service.TicketReportService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class TicketReportServiceImpl implements TicketReportService {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService partitionExecutor;
+    private final Set<String> resolvedStatuses;
+    private final int maxRangeDays;
+    private final int cacheMaxPartitions;
+    private final ReentrantLock cacheLock = new ReentrantLock();
+    private final Map<PartitionKey, CachedPartition> closedPartitions = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong generation = new AtomicLong();
+
+    public TicketReportServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   @Value("${helpdesk.tickets.resolved-statuses:resolved,closed}") Set<String> resolvedStatuses,
+                                   @Value("${helpdesk.reporting.max-range-days:1096}") int maxRangeDays,
+                                   @Value("${helpdesk.reporting.parallelism:4}") int parallelism,
+                                   @Value("${helpdesk.reporting.cache-max-partitions:512}") int cacheMaxPartitions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.resolvedStatuses = Set.copyOf(resolvedStatuses);
+        this.maxRangeDays = maxRangeDays;
+        this.cacheMaxPartitions = cacheMaxPartitions;
+        AtomicInteger threads = new AtomicInteger();
+        this.partitionExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "report-partition-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public TicketReportDTO getTicketReport(LocalDate from, LocalDate to, String groupBy, String interval) {
+        Grouping grouping = parse(Grouping.class, groupBy, "groupBy");
+        Interval bucketing = parse(Interval.class, interval, "interval");
+        if (to.isBefore(from)) {
+            throw new InvalidRequestException("to must not be before from");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxRangeDays) {
+            throw new InvalidRequestException("Reports can span at most " + maxRangeDays + " days");
+        }
+        CompletableFuture<Map<Long, Long>> opening = CompletableFuture.supplyAsync(
+                () -> openTicketsAt(from, grouping), partitionExecutor);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.atDay(1).isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        List<CompletableFuture<MonthPartition>> loads = months.stream()
+                .map(month -> {
+                    MonthPartition cached = cachedPartition(new PartitionKey(month, grouping));
+                    return cached != null ? CompletableFuture.completedFuture(cached)
+                            : CompletableFuture.supplyAsync(() -> partition(month, grouping), partitionExecutor);
+                })
+                .toList();
+        List<MonthPartition> partitions = new ArrayList<>(loads.size());
+        for (CompletableFuture<MonthPartition> load : loads) {
+            partitions.add(join(load));
+        }
+        return assemble(from, to, days, grouping, bucketing, join(opening), partitions);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (event.type() == TicketChangedEvent.Type.CREATED) {
+            return;
+        }
+        boolean reopened = event.statusChanged() && isResolved(event.previousStatus()) && !isResolved(event.status());
+        if (event.type() == TicketChangedEvent.Type.DELETED || event.assigneeChanged() || reopened) {
+            invalidateClosedPartitions();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() != EmployeeChangedEvent.Type.CREATED) {
+            invalidateClosedPartitions();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        partitionExecutor.shutdown();
+        partitionExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private Map<Long, Long> openTicketsAt(LocalDate day, Grouping grouping) {
+        Map<Long, Long> open = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT " + grouping.column + " AS group_id, COUNT(*) AS tickets FROM tickets t" + grouping.join
+                        + " WHERE t.deleted = false AND t.created_date < ?"
+                        + " AND (t.resolved_date IS NULL OR t.resolved_date >= ?)"
+                        + " GROUP BY " + grouping.column,
+                rs -> {
+                    open.put(groupId(rs.getLong("group_id"), rs.wasNull()), rs.getLong("tickets"));
+                }, day.atStartOfDay(), day.atStartOfDay()));
+        return open;
+    }
+
+    private MonthPartition partition(YearMonth month, Grouping grouping) {
+        PartitionKey key = new PartitionKey(month, grouping);
+        boolean closed = !month.plusMonths(1).atDay(1).isAfter(LocalDate.now().minusDays(1));
+        long observedGeneration = generation.get();
+        MonthPartition partition = loadPartition(month, grouping);
+        if (closed) {
+            cacheLock.lock();
+            try {
+                if (generation.get() == observedGeneration) {
+                    closedPartitions.put(key, new CachedPartition(partition, observedGeneration));
+                    if (closedPartitions.size() > cacheMaxPartitions) {
+                        closedPartitions.remove(closedPartitions.keySet().iterator().next());
+                    }
+                }
+            } finally {
+                cacheLock.unlock();
+            }
+        }
+        return partition;
+    }
+
+    private MonthPartition loadPartition(YearMonth month, Grouping grouping) {
+        int length = month.lengthOfMonth();
+        Map<Long, DaySeries> series = new HashMap<>();
+        Object start = month.atDay(1).atStartOfDay();
+        Object end = month.plusMonths(1).atDay(1).atStartOfDay();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query("SELECT CAST(t.created_date AS DATE) AS day, " + grouping.column
+                    + " AS group_id, COUNT(*) AS tickets FROM tickets t" + grouping.join
+                    + " WHERE t.deleted = false AND t.created_date >= ? AND t.created_date < ?"
+                    + " GROUP BY CAST(t.created_date AS DATE), " + grouping.column, rs -> {
+                Long groupId = groupId(rs.getLong("group_id"), rs.wasNull());
+                int day = rs.getObject("day", LocalDate.class).getDayOfMonth() - 1;
+                series.computeIfAbsent(groupId, id -> new DaySeries(length)).created[day] += rs.getLong("tickets");
+            }, start, end);
+            jdbcTemplate.query("SELECT CAST(t.resolved_date AS DATE) AS day, " + grouping.column
+                    + " AS group_id, COUNT(*) AS tickets,"
+                    + " SUM(TIMESTAMPDIFF(SECOND, t.created_date, t.resolved_date)) AS resolution_seconds"
+                    + " FROM tickets t" + grouping.join
+                    + " WHERE t.deleted = false AND t.resolved_date >= ? AND t.resolved_date < ?"
+                    + " GROUP BY CAST(t.resolved_date AS DATE), " + grouping.column, rs -> {
+                Long groupId = groupId(rs.getLong("group_id"), rs.wasNull());
+                int day = rs.getObject("day", LocalDate.class).getDayOfMonth() - 1;
+                DaySeries days = series.computeIfAbsent(groupId, id -> new DaySeries(length));
+                days.resolved[day] += rs.getLong("tickets");
+                days.resolutionSeconds[day] += rs.getLong("resolution_seconds");
+            }, start, end);
+        });
+        return new MonthPartition(month, series);
+    }
+
+    private MonthPartition cachedPartition(PartitionKey key) {
+        cacheLock.lock();
+        try {
+            CachedPartition cached = closedPartitions.get(key);
+            return cached != null && cached.generation() == generation.get() ? cached.partition() : null;
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void invalidateClosedPartitions() {
+        generation.incrementAndGet();
+        cacheLock.lock();
+        try {
+            closedPartitions.clear();
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private TicketReportDTO assemble(LocalDate from, LocalDate to, int days, Grouping grouping, Interval bucketing,
+                                     Map<Long, Long> opening, List<MonthPartition> partitions) {
+        List<LocalDate> bucketStarts = new ArrayList<>();
+        int[] bucketOfDay = new int[days];
+        for (int i = 0; i < days; i++) {
+            LocalDate start = bucketing.start(from.plusDays(i));
+            if (start.isBefore(from)) {
+                start = from;
+            }
+            if (bucketStarts.isEmpty() || !bucketStarts.get(bucketStarts.size() - 1).equals(start)) {
+                bucketStarts.add(start);
+            }
+            bucketOfDay[i] = bucketStarts.size() - 1;
+        }
+        Set<Long> groupIds = new TreeSet<>(Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+        groupIds.addAll(opening.keySet());
+        partitions.forEach(partition -> groupIds.addAll(partition.series().keySet()));
+
+        Buckets overall = new Buckets(bucketStarts.size());
+        long overallOpening = 0;
+        List<TicketReportDTO.Series> groups = new ArrayList<>(groupIds.size());
+        for (Long groupId : groupIds) {
+            long open = opening.getOrDefault(groupId, 0L);
+            Buckets buckets = new Buckets(bucketStarts.size());
+            long backlog = open;
+            LocalDate day = from;
+            for (int i = 0; i < days; i++, day = day.plusDays(1)) {
+                MonthPartition partition = partitions.get(monthIndex(from, day));
+                DaySeries series = partition.series().get(groupId);
+                int bucket = bucketOfDay[i];
+                if (series != null) {
+                    int dayOfMonth = day.getDayOfMonth() - 1;
+                    buckets.created[bucket] += series.created[dayOfMonth];
+                    buckets.resolved[bucket] += series.resolved[dayOfMonth];
+                    buckets.resolutionSeconds[bucket] += series.resolutionSeconds[dayOfMonth];
+                    backlog += series.created[dayOfMonth] - series.resolved[dayOfMonth];
+                }
+                buckets.backlog[bucket] = backlog;
+            }
+            overall.add(buckets);
+            overallOpening += open;
+            groups.add(buckets.toSeries(groupId, open, bucketStarts));
+        }
+        return new TicketReportDTO(from, to, grouping.name().toLowerCase(Locale.ROOT),
+                bucketing.name().toLowerCase(Locale.ROOT), overall.toSeries(null, overallOpening, bucketStarts), groups);
+    }
+
+    private boolean isResolved(String status) {
+        return status != null && resolvedStatuses.contains(status);
+    }
+
+    private static int monthIndex(LocalDate from, LocalDate day) {
+        return (int) ChronoUnit.MONTHS.between(YearMonth.from(from), YearMonth.from(day));
+    }
+
+    private static Long groupId(long value, boolean wasNull) {
+        return wasNull ? null : value;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String parameter) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Unsupported " + parameter + " '" + value + "'");
+        }
+    }
+
+    private enum Grouping {
+        ASSIGNEE("t.assignee_id", ""),
+        ROLE("e.role_id", " LEFT JOIN employees e ON e.id = t.assignee_id");
+
+        private final String column;
+        private final String join;
+
+        Grouping(String column, String join) {
+            this.column = column;
+            this.join = join;
+        }
+    }
+
+    private enum Interval {
+        DAY,
+        WEEK,
+        MONTH;
+
+        private LocalDate start(LocalDate day) {
+            return switch (this) {
+                case DAY -> day;
+                case WEEK -> day.with(DayOfWeek.MONDAY);
+                case MONTH -> day.withDayOfMonth(1);
+            };
+        }
+    }
+
+    private record PartitionKey(YearMonth month, Grouping grouping) {
+    }
+
+    private record CachedPartition(MonthPartition partition, long generation) {
+    }
+
+    private record MonthPartition(YearMonth month, Map<Long, DaySeries> series) {
+    }
+
+    private static final class DaySeries {
+        private final long[] created;
+        private final long[] resolved;
+        private final long[] resolutionSeconds;
+
+        private DaySeries(int days) {
+            this.created = new long[days];
+            this.resolved = new long[days];
+            this.resolutionSeconds = new long[days];
+        }
+    }
+
+    private static final class Buckets {
+        private final long[] created;
+        private final long[] resolved;
+        private final long[] resolutionSeconds;
+        private final long[] backlog;
+
+        private Buckets(int size) {
+            this.created = new long[size];
+            this.resolved = new long[size];
+            this.resolutionSeconds = new long[size];
+            this.backlog = new long[size];
+        }
+
+        private void add(Buckets other) {
+            for (int i = 0; i < created.length; i++) {
+                created[i] += other.created[i];
+                resolved[i] += other.resolved[i];
+                resolutionSeconds[i] += other.resolutionSeconds[i];
+                backlog[i] += other.backlog[i];
+            }
+        }
+
+        private TicketReportDTO.Series toSeries(Long groupId, long openAtStart, List<LocalDate> starts) {
+            List<TicketReportDTO.Point> points = new ArrayList<>(starts.size());
+            long totalCreated = 0;
+            long totalResolved = 0;
+            long totalSeconds = 0;
+            for (int i = 0; i < starts.size(); i++) {
+                points.add(new TicketReportDTO.Point(starts.get(i), created[i], resolved[i], backlog[i],
+                        mttrHours(resolutionSeconds[i], resolved[i])));
+                totalCreated += created[i];
+                totalResolved += resolved[i];
+                totalSeconds += resolutionSeconds[i];
+            }
+            return new TicketReportDTO.Series(groupId, openAtStart, totalCreated, totalResolved,
+                    mttrHours(totalSeconds, totalResolved), points);
+        }
+
+        private static Double mttrHours(long seconds, long resolved) {
+            return resolved == 0 ? null : seconds / 3600.0 / resolved;
+        }
+    }
+}
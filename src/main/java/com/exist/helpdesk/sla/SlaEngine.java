@@ -0,0 +1,209 @@
+package com.exist.helpdesk.sla;
+
+import com.exist.helpdesk.audit.TicketAuditLog;
+import com.exist.helpdesk.audit.TicketAuditRecord;
+import com.exist.helpdesk.event.TicketChangedEvent;
+import com.exist.helpdesk.model.HelpdeskTicket;
+import com.exist.helpdesk.repository.EmployeeRepository;
+import com.exist.helpdesk.repository.HelpdeskTicketRepository;
+import com.exist.helpdesk.repository.TicketBulkRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@ConditionalOnProperty(prefix = "helpdesk.sla", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlaEngine {
+    private static final Logger log = LoggerFactory.getLogger(SlaEngine.class);
+    private static final String ESCALATED_BY = "sla-engine";
+
+    private final HelpdeskTicketRepository ticketRepository;
+    private final TicketBulkRepository ticketBulkRepository;
+    private final EmployeeRepository employeeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final TicketAuditLog auditLog;
+    private final Map<String, Duration> timeouts = new HashMap<>();
+    private final Set<String> actions;
+    private final String escalationStatus;
+    private final Long escalationAssigneeId;
+    private final Map<Long, Deadline> deadlines = new ConcurrentHashMap<>();
+    private final ExecutorService escalationExecutor;
+    private final HashedTimerWheel wheel;
+
+    public SlaEngine(HelpdeskTicketRepository ticketRepository, TicketBulkRepository ticketBulkRepository,
+                     EmployeeRepository employeeRepository,
+                     JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                     ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry, TicketAuditLog auditLog,
+                     @Value("${helpdesk.sla.filed-timeout:4h}") Duration filedTimeout,
+                     @Value("${helpdesk.sla.in-progress-timeout:24h}") Duration inProgressTimeout,
+                     @Value("${helpdesk.sla.actions:remark}") Set<String> actions,
+                     @Value("${helpdesk.sla.escalation-status:escalated}") String escalationStatus,
+                     @Value("${helpdesk.sla.escalation-assignee-id:#{null}}") Long escalationAssigneeId,
+                     @Value("${helpdesk.sla.tick:1s}") Duration tick,
+                     @Value("${helpdesk.sla.wheel-size:4096}") int wheelSize,
+                     @Value("${helpdesk.sla.escalation-threads:2}") int escalationThreads) {
+        this.ticketRepository = ticketRepository;
+        this.ticketBulkRepository = ticketBulkRepository;
+        this.employeeRepository = employeeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.auditLog = auditLog;
+        if (isPositive(filedTimeout)) {
+            timeouts.put("filed", filedTimeout);
+        }
+        if (isPositive(inProgressTimeout)) {
+            timeouts.put("in-progress", inProgressTimeout);
+        }
+        this.actions = actions;
+        this.escalationStatus = escalationStatus;
+        this.escalationAssigneeId = escalationAssigneeId;
+        AtomicInteger threads = new AtomicInteger();
+        this.escalationExecutor = Executors.newFixedThreadPool(escalationThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sla-escalation-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.wheel = new HashedTimerWheel("sla-timer-wheel", tick, wheelSize, escalationExecutor);
+        Gauge.builder("helpdesk.sla.pending", wheel, HashedTimerWheel::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        wheel.start();
+        if (timeouts.isEmpty()) {
+            return;
+        }
+        List<String> statuses = List.copyOf(timeouts.keySet());
+        String placeholders = String.join(", ", Collections.nCopies(statuses.size(), "?"));
+        long start = System.nanoTime();
+        jdbcTemplate.query("SELECT id, status, created_date, updated_date FROM tickets WHERE deleted = false AND status IN ("
+                + placeholders + ")", rs -> {
+            Timestamp updated = rs.getTimestamp("updated_date");
+            Timestamp created = rs.getTimestamp("created_date");
+            schedule(rs.getLong("id"), rs.getString("status"),
+                    (updated != null ? updated : created).toLocalDateTime());
+        }, statuses.toArray());
+        log.info("Rebuilt {} SLA deadlines in {} ms", deadlines.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        String status = event.type() == TicketChangedEvent.Type.DELETED ? null : event.status();
+        schedule(event.ticketId(), status, event.occurredAt());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        wheel.stop();
+        escalationExecutor.shutdown();
+        escalationExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void schedule(Long ticketId, String status, LocalDateTime lastActivity) {
+        Duration timeout = status != null ? timeouts.get(status) : null;
+        deadlines.compute(ticketId, (id, existing) -> {
+            if (existing != null && existing.lastActivity().isAfter(lastActivity)) {
+                return existing;
+            }
+            if (existing != null) {
+                existing.timeout().cancel();
+            }
+            if (timeout == null) {
+                return null;
+            }
+            Duration delay = Duration.between(LocalDateTime.now(), lastActivity.plus(timeout));
+            return new Deadline(status, lastActivity, wheel.newTimeout(
+                    () -> escalate(ticketId, status, lastActivity, timeout), delay));
+        });
+    }
+
+    private void escalate(Long ticketId, String status, LocalDateTime lastActivity, Duration timeout) {
+        deadlines.computeIfPresent(ticketId, (id, deadline) ->
+                deadline.status().equals(status) && deadline.lastActivity().equals(lastActivity) ? null : deadline);
+        try {
+            boolean escalated = Boolean.TRUE.equals(transactionTemplate.execute(tx -> {
+                HelpdeskTicket ticket = ticketRepository.findWithoutRemarksById(ticketId).orElse(null);
+                if (ticket == null || !status.equals(ticket.getStatus()) || lastActivity(ticket).isAfter(lastActivity)) {
+                    return false;
+                }
+                Long previousAssigneeId = ticket.getAssignee() != null ? ticket.getAssignee().getId() : null;
+                LocalDateTime now = LocalDateTime.now();
+                List<TicketAuditRecord.FieldChange> changes = new ArrayList<>();
+                if (actions.contains("remark")) {
+                    String remark = "SLA breached: ticket has been " + status + " for more than " + timeout;
+                    ticketBulkRepository.insertRemarks(List.of(ticketId), remark, ESCALATED_BY, now);
+                    changes.add(new TicketAuditRecord.FieldChange(TicketAuditRecord.Field.REMARK, null, remark));
+                }
+                if (actions.contains("status") && !escalationStatus.equals(status)) {
+                    ticket.setStatus(escalationStatus);
+                    changes.add(new TicketAuditRecord.FieldChange(TicketAuditRecord.Field.STATUS, status, escalationStatus));
+                }
+                if (actions.contains("reassign") && escalationAssigneeId != null
+                        && !escalationAssigneeId.equals(previousAssigneeId)) {
+                    ticket.setAssignee(employeeRepository.getReferenceById(escalationAssigneeId));
+                    changes.add(new TicketAuditRecord.FieldChange(TicketAuditRecord.Field.ASSIGNEE,
+                            Objects.toString(previousAssigneeId, null), escalationAssigneeId.toString()));
+                }
+                ticket.setUpdatedDate(now);
+                ticket.setUpdatedBy(ESCALATED_BY);
+                Long assigneeId = ticket.getAssignee() != null ? ticket.getAssignee().getId() : null;
+                eventPublisher.publishEvent(new TicketChangedEvent(ticketId, TicketChangedEvent.Type.ESCALATED,
+                        ticket.getStatus(), status, assigneeId, previousAssigneeId, now));
+                auditLog.record(new TicketAuditRecord(ticketId, Instant.now(), TicketAuditRecord.Action.ESCALATED,
+                        ESCALATED_BY, changes));
+                return true;
+            }));
+            if (escalated) {
+                meterRegistry.counter("helpdesk.sla.escalations", "status", status).increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("SLA escalation for ticket {} failed", ticketId, e);
+        }
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return !duration.isZero() && !duration.isNegative();
+    }
+
+    private static LocalDateTime lastActivity(HelpdeskTicket ticket) {
+        return ticket.getUpdatedDate() != null ? ticket.getUpdatedDate() : ticket.getCreatedDate();
+    }
+
+    private record Deadline(String status, LocalDateTime lastActivity, HashedTimerWheel.Timeout timeout) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.exist.helpdesk.utils;
+
+import com.exist.helpdesk.dto.BatchResponse;
+import com.exist.helpdesk.exception.InvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class BatchResponseUtil {
+    private BatchResponseUtil() {
+    }
+
+    public static Set<Long> distinctIds(List<Long> ids, int maxIds) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("At least one id is required");
+        }
+        if (ids.size() > maxIds) {
+            throw new InvalidRequestException("At most " + maxIds + " ids can be requested at once");
+        }
+        if (ids.contains(null)) {
+            throw new InvalidRequestException("Ids must not be null");
+        }
+        return new LinkedHashSet<>(ids);
+    }
+
+    public static <T> BatchResponse<T> inRequestOrder(List<Long> ids, Map<Long, T> found) {
+        List<BatchResponse.Item<T>> items = new ArrayList<>(ids.size());
+        int hits = 0;
+        for (Long id : ids) {
+            T data = found.get(id);
+            if (data != null) {
+                hits++;
+            }
+            items.add(new BatchResponse.Item<>(id, data != null, data));
+        }
+        return new BatchResponse<>(items, hits, ids.size() - hits);
+    }
+}
@@ -6,30 +6,197 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import jakarta.annotation.PostConstruct;
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 @Component
 public class JwtUtils {
-    @Value("${spring.security.oauth2.resourceserver.jwt.secret}")
-    private String secret;
-    private SecretKey secretKey;
+    private static final long JWT_EXPIRATION_MS = 900000;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ENCODED_HEADER = java.util.Base64.getUrlEncoder().withoutPadding()
+            .encode("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
 
-    @PostConstruct
-    public void init() {
+    private final SecretKey secretKey;
+    private final SecretKeySpec macKey;
+    private final BlockingQueue<TokenBuffer> buffers =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    public JwtUtils(@Value("${spring.security.oauth2.resourceserver.jwt.secret}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.macKey = new SecretKeySpec(secretKey.getEncoded(), HMAC_ALGORITHM);
     }
 
     public String generateToken(String username, List<String> authorities) {
-        long jwtExpirationMs = 900000;
+        TokenBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new TokenBuffer(newMac(macKey));
+        }
+        try {
+            return mint(buffer, username, authorities);
+        } finally {
+            buffers.offer(buffer);
+        }
+    }
+
+    private String mint(TokenBuffer buffer, String username, List<String> authorities) {
+        long issuedAt = System.currentTimeMillis() / 1000;
+        long expiresAt = issuedAt + JWT_EXPIRATION_MS / 1000;
+        StringBuilder claims = buffer.claims;
+        claims.setLength(0);
+        claims.append("{\"sub\":");
+        appendJsonString(claims, username);
+        claims.append(",\"authorities\":[");
+        for (int i = 0; i < authorities.size(); i++) {
+            if (i > 0) {
+                claims.append(',');
+            }
+            appendJsonString(claims, authorities.get(i));
+        }
+        claims.append("],\"iat\":").append(issuedAt)
+                .append(",\"exp\":").append(expiresAt)
+                .append(",\"jti\":\"").append(UUID.randomUUID()).append("\"}");
+
+        byte[] claimBytes = buffer.claimBytes(claims);
+        int claimLength = buffer.claimLength;
+        int signingInputLength = ENCODED_HEADER.length + 1 + encodedLength(claimLength);
+        byte[] token = buffer.token(signingInputLength + 1 + encodedLength(SIGNATURE_LENGTH));
+        System.arraycopy(ENCODED_HEADER, 0, token, 0, ENCODED_HEADER.length);
+        token[ENCODED_HEADER.length] = '.';
+        encode(claimBytes, claimLength, token, ENCODED_HEADER.length + 1);
+
+        Mac mac = buffer.mac;
+        mac.update(token, 0, signingInputLength);
+        try {
+            mac.doFinal(buffer.signature, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("Signature buffer too small", e);
+        }
+        token[signingInputLength] = '.';
+        int tokenLength = encode(buffer.signature, SIGNATURE_LENGTH, token, signingInputLength + 1);
+        return new String(token, 0, tokenLength, StandardCharsets.US_ASCII);
+    }
+
+    public String generateTokenWithBuilder(String username, List<String> authorities) {
         return Jwts.builder()
                 .setSubject(username)
                 .claim("authorities", authorities)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
+                .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION_MS))
+                .setId(UUID.randomUUID().toString())
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialise " + HMAC_ALGORITHM, e);
+        }
+    }
+
+    private static int encodedLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    private static int encode(byte[] src, int length, byte[] dst, int offset) {
+        int out = offset;
+        int i = 0;
+        for (; i + 2 < length; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[out++] = BASE64_URL[(bits >>> 18) & 0x3f];
+            dst[out++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            dst[out++] = BASE64_URL[(bits >>> 6) & 0x3f];
+            dst[out++] = BASE64_URL[bits & 0x3f];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            dst[out++] = BASE64_URL[(bits >>> 18) & 0x3f];
+            dst[out++] = BASE64_URL[(bits >>> 12) & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            dst[out++] = BASE64_URL[(bits >>> 18) & 0x3f];
+            dst[out++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            dst[out++] = BASE64_URL[(bits >>> 6) & 0x3f];
+        }
+        return out;
+    }
+
+    private static void appendJsonString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\b' -> out.append("\\b");
+                case '\f' -> out.append("\\f");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private static final class TokenBuffer {
+        private final Mac mac;
+        private final StringBuilder claims = new StringBuilder(256);
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private byte[] claimBytes = new byte[512];
+        private byte[] token = new byte[1024];
+        private int claimLength;
+
+        private TokenBuffer(Mac mac) {
+            this.mac = mac;
+        }
+
+        private byte[] claimBytes(StringBuilder source) {
+            int length = source.length();
+            for (int i = 0; i < length; i++) {
+                if (source.charAt(i) >= 0x80) {
+                    byte[] utf8 = source.toString().getBytes(StandardCharsets.UTF_8);
+                    claimLength = utf8.length;
+                    return utf8;
+                }
+            }
+            if (claimBytes.length < length) {
+                claimBytes = new byte[Math.max(length, claimBytes.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                claimBytes[i] = (byte) source.charAt(i);
+            }
+            claimLength = length;
+            return claimBytes;
+        }
+
+        private byte[] token(int length) {
+            if (token.length < length) {
+                token = new byte[Math.max(length, token.length * 2)];
+            }
+            return token;
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package com.exist.helpdesk.utils;
+
+import com.exist.helpdesk.dto.WriteReceipt;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+public class PreferHeaderUtil {
+    public static final String PREFER_HEADER = "Prefer";
+    public static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    public static final String TICKET_NUMBER_HEADER = "Ticket-Number";
+    private static final String RETURN_MINIMAL = "return=minimal";
+
+    private PreferHeaderUtil() {
+    }
+
+    public static boolean isReturnMinimal(String prefer) {
+        if (prefer == null || prefer.isBlank()) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            String token = preference.split(";", 2)[0].replace(" ", "").replace("\"", "");
+            if (token.equalsIgnoreCase(RETURN_MINIMAL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static <T> ResponseEntity<T> minimal(String resourcePath, WriteReceipt receipt) {
+        ResponseEntity.HeadersBuilder<?> builder = ResponseEntity.noContent()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path(resourcePath + "/{id}")
+                        .buildAndExpand(receipt.id())
+                        .toUri())
+                .eTag("\"" + receipt.version() + "\"")
+                .header(PREFERENCE_APPLIED_HEADER, RETURN_MINIMAL);
+        if (receipt.ticketNumber() != null) {
+            builder.header(TICKET_NUMBER_HEADER, receipt.ticketNumber());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,53 @@
+create table roles (
+    id bigint generated by default as identity,
+    name varchar(255) not null,
+    version integer,
+    primary key (id),
+    constraint uk_roles_name unique (name)
+);
+
+create table employees (
+    id bigint generated by default as identity,
+    name varchar(255),
+    age integer,
+    address varchar(255),
+    phone varchar(255),
+    employment_status varchar(255),
+    username varchar(255) not null,
+    password varchar(255) not null,
+    role_id bigint,
+    version integer,
+    primary key (id),
+    constraint uk_employees_username unique (username),
+    constraint fk_employees_role foreign key (role_id) references roles (id)
+);
+
+create table tickets (
+    id bigint generated by default as identity,
+    ticket_number varchar(255) not null,
+    title varchar(255),
+    body varchar(255),
+    status varchar(255),
+    assignee_id bigint,
+    created_date timestamp(6) not null,
+    created_by varchar(255),
+    updated_date timestamp(6),
+    updated_by varchar(255),
+    version integer,
+    primary key (id),
+    constraint uk_tickets_ticket_number unique (ticket_number),
+    constraint fk_tickets_assignee foreign key (assignee_id) references employees (id)
+);
+
+create index idx_tickets_status on tickets (status);
+create index idx_tickets_assignee on tickets (assignee_id);
+
+create table ticket_remarks (
+    ticket_id bigint not null,
+    remark varchar(255),
+    added_by varchar(255),
+    added_at timestamp(6),
+    constraint fk_ticket_remarks_ticket foreign key (ticket_id) references tickets (id)
+);
+
+create index idx_ticket_remarks_ticket on ticket_remarks (ticket_id);
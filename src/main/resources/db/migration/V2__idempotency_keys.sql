@@ -0,0 +1,11 @@
+create table idempotency_keys (
+    principal varchar(255) not null,
+    idempotency_key varchar(255) not null,
+    fingerprint varchar(64) not null,
+    response_body clob,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    primary key (principal, idempotency_key)
+);
+
+create index idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
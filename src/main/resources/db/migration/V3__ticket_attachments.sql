@@ -0,0 +1,15 @@
+create table ticket_attachments (
+    id bigint generated by default as identity,
+    ticket_id bigint not null,
+    file_name varchar(255) not null,
+    content_type varchar(255) not null,
+    size_bytes bigint not null,
+    sha256 varchar(64) not null,
+    uploaded_by varchar(255),
+    uploaded_at timestamp(6) not null,
+    primary key (id),
+    constraint fk_ticket_attachments_ticket foreign key (ticket_id) references tickets (id) on delete cascade
+);
+
+create index idx_ticket_attachments_ticket on ticket_attachments (ticket_id);
+create index idx_ticket_attachments_sha256 on ticket_attachments (sha256);
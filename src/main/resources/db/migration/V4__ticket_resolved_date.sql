@@ -0,0 +1,8 @@
+alter table tickets add column resolved_date timestamp(6);
+
+update tickets
+set resolved_date = coalesce(updated_date, created_date)
+where status in ('resolved', 'closed');
+
+create index idx_tickets_created_date on tickets (created_date);
+create index idx_tickets_resolved_date on tickets (resolved_date);
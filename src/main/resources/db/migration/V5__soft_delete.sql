@@ -0,0 +1,8 @@
+alter table tickets add column deleted boolean default false not null;
+alter table tickets add column deleted_at timestamp(6);
+
+alter table employees add column deleted boolean default false not null;
+alter table employees add column deleted_at timestamp(6);
+
+create index idx_tickets_deleted_at on tickets (deleted, deleted_at);
+create index idx_employees_deleted_at on employees (deleted, deleted_at);
@@ -0,0 +1,14 @@
+create table ticket_outbox (
+    id bigint generated by default as identity,
+    ticket_id bigint not null,
+    event_type varchar(32) not null,
+    payload varchar(4000) not null,
+    created_at timestamp(6) not null,
+    attempts integer default 0 not null,
+    next_attempt_at timestamp(6) not null,
+    dispatched_at timestamp(6),
+    primary key (id)
+);
+
+create index idx_ticket_outbox_pending on ticket_outbox (dispatched_at, next_attempt_at, id);
+create index idx_ticket_outbox_ticket on ticket_outbox (ticket_id, dispatched_at, id);